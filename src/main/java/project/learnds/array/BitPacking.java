@@ -0,0 +1,73 @@
+package project.learnds.array;
+
+/**
+ * Helpers for reading and writing fixed-width unsigned values stored back to back in a {@code long[]}.
+ * A value may straddle two words.
+ */
+final class BitPacking {
+
+    private BitPacking() {
+    }
+
+    /**
+     * Returns the number of bits needed to store {@code value} as an unsigned number. At least 1.
+     * 
+     * @param value value to measure
+     * @return number of bits needed, between 1 and 64
+     */
+    static int bitsRequired(long value) {
+        return Math.max(1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+    /**
+     * Returns the number of words needed to store {@code count} values of {@code bits} bits each.
+     * 
+     * @param count number of values
+     * @param bits bits per value
+     * @return number of words needed
+     */
+    static int wordsRequired(long count, int bits) {
+        return (int) ((count * bits + 63) >>> 6);
+    }
+
+    /**
+     * Reads the {@code bits} wide value starting at {@code bitIndex}.
+     * 
+     * @param words packed words
+     * @param bitIndex position of the lowest bit of the value
+     * @param bits width of the value, between 1 and 32
+     * @return the value, zero-extended
+     */
+    static long read(long[] words, long bitIndex, int bits) {
+        int w = (int) (bitIndex >>> 6);
+        int shift = (int) (bitIndex & 63);
+
+        long v = words[w] >>> shift;
+        if (shift + bits > 64) {
+            v |= words[w + 1] << (64 - shift);
+        }
+
+        return v & ((1L << bits) - 1);
+    }
+
+    /**
+     * Writes the low {@code bits} bits of {@code value} starting at {@code bitIndex}.
+     * 
+     * @param words packed words
+     * @param bitIndex position of the lowest bit of the value
+     * @param bits width of the value, between 1 and 32
+     * @param value value to write
+     */
+    static void write(long[] words, long bitIndex, int bits, long value) {
+        int w = (int) (bitIndex >>> 6);
+        int shift = (int) (bitIndex & 63);
+        long mask = (1L << bits) - 1;
+        value &= mask;
+
+        words[w] = (words[w] & ~(mask << shift)) | (value << shift);
+        if (shift + bits > 64) {
+            int spill = 64 - shift;
+            words[w + 1] = (words[w + 1] & ~(mask >>> spill)) | (value >>> spill);
+        }
+    }
+}
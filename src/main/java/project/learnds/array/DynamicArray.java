@@ -1,13 +1,24 @@
 package project.learnds.array;
 
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+import project.learnds.changelog.Change;
+import project.learnds.changelog.ChangeLog;
+import project.learnds.memory.MemoryLayout;
+import project.learnds.memory.MemorySized;
 
 /**
  * My implementation of a dynamic array (ArrayList).
  * Allows for null values.
  */
-public class DynamicArray<E> implements Iterable<E> {
+public class DynamicArray<E> implements Iterable<E>, MemorySized {
 
     /**
      * Default initial capacity.
@@ -24,6 +35,16 @@ public class DynamicArray<E> implements Iterable<E> {
      */
     private int size;
 
+    /**
+     * Log of changes made to this list. Null unless enabled.
+     */
+    private ChangeLog<E> changeLog;
+
+    /**
+     * Fraction of unused capacity above which {@code remove} trims the array. 0 if disabled.
+     */
+    private double autoTrimThreshold;
+
     /**
      * Default constructor that uses {@code INIT_CAPACITY} as its inital capacity.
      */
@@ -40,6 +61,57 @@ public class DynamicArray<E> implements Iterable<E> {
         elements = new Object[capacity];
     }
 
+    /**
+     * Copy constructor. The new list's capacity is exactly {@code other}'s size.
+     * 
+     * @param other list whose elements are copied
+     */
+    public DynamicArray(DynamicArray<? extends E> other) {
+        elements = Arrays.copyOf(other.elements, other.size, Object[].class);
+        size = other.size;
+    }
+
+    /**
+     * Constructor that copies the elements of {@code c} in iteration order.
+     * The new list's capacity is exactly {@code c}'s size.
+     * 
+     * @param c collection whose elements are copied
+     */
+    public DynamicArray(Collection<? extends E> c) {
+        Object[] incoming = c.toArray();
+        // toArray may return a subtype array, such as String[], which could not hold every E
+        elements = incoming.getClass() == Object[].class ? incoming : Arrays.copyOf(incoming, incoming.length, Object[].class);
+        size = elements.length;
+    }
+
+    /**
+     * Returns a new list holding {@code elements}, with exactly enough capacity.
+     * 
+     * @param <E> type of the elements
+     * @param elements elements of the new list
+     * @return new list holding {@code elements}
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E> DynamicArray<E> of(E... elements) {
+        return from(elements);
+    }
+
+    /**
+     * Returns a new list holding a copy of {@code array}, with exactly enough capacity.
+     * 
+     * @param <E> type of the elements
+     * @param array elements of the new list
+     * @return new list holding the elements of {@code array}
+     */
+    public static <E> DynamicArray<E> from(E[] array) {
+        DynamicArray<E> retVal = new DynamicArray<>(0);
+        retVal.elements = Arrays.copyOf(array, array.length, Object[].class);
+        retVal.size = array.length;
+
+        return retVal;
+    }
+
     /**
      * Appends the specified element {@code e} to the end of the list.
      * 
@@ -49,19 +121,61 @@ public class DynamicArray<E> implements Iterable<E> {
     public boolean add(E e) {
         // double array's capacity if full
         if (size >= elements.length) {
-            Object[] temp = new Object[elements.length * 2];
-            for (int i = 0; i < elements.length; i++) {
-                temp[i] = elements[i];
-            }
-            elements = temp;
+            grow(size + 1);
         }
 
         elements[size] = e;
         size++;
 
+        if (changeLog != null) {
+            changeLog.record(Change.Type.ADD, size - 1, e);
+        }
+
         return true;
     }
 
+    /**
+     * Appends every element of {@code source} to the end of the list, in iteration order.
+     * Grows the array at most once when the number of elements is known up front.
+     * 
+     * @param source elements to be appended to this list
+     * @return true if this list changed
+     */
+    @SuppressWarnings("unchecked")
+    public boolean addAll(Iterable<? extends E> source) {
+        Object[] incoming;
+        if (source instanceof DynamicArray) {
+            DynamicArray<? extends E> other = (DynamicArray<? extends E>) source;
+            incoming = other.elements;
+            addArray(incoming, other.size);
+
+            return other.size > 0;
+        } else if (source instanceof Collection) {
+            incoming = ((Collection<? extends E>) source).toArray();
+            addArray(incoming, incoming.length);
+
+            return incoming.length > 0;
+        }
+
+        int before = size;
+        for (E e : source) {
+            add(e);
+        }
+
+        return size > before;
+    }
+
+    /**
+     * Grows the array, if needed, so it can hold at least {@code minCapacity} elements without growing again.
+     * 
+     * @param minCapacity desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
     /**
      * Returns the element at position {@code index}.
      * 
@@ -76,6 +190,29 @@ public class DynamicArray<E> implements Iterable<E> {
         return (E) elements[index];
     }
 
+    /**
+     * Replaces the element at position {@code index} with {@code e}.
+     * Returns the element that was replaced.
+     * 
+     * @param index index of the element to replace
+     * @param e element to be stored at position {@code index}
+     * @return the element previously at position {@code index}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public E set(int index, E e) {
+        checkBounds(index);
+
+        E retVal = (E) elements[index];
+        elements[index] = e;
+
+        if (changeLog != null) {
+            changeLog.record(Change.Type.SET, index, e);
+        }
+
+        return retVal;
+    }
+
     /**
      * Returns the index of the first occurrence of {@code o} or -1 if this list doesn't contain it.
      * 
@@ -83,8 +220,32 @@ public class DynamicArray<E> implements Iterable<E> {
      * @return index of the first occcurrence of {@code o} or -1 if this list doesn't contian it
      */
     public int indexOf(E e) {
+        // check for null once instead of for every element
+        if (e == null) {
+            return indexOfIdentity(null);
+        }
+
+        Object[] es = elements;
+        for (int i = 0; i < size; i++) {
+            if (e.equals(es[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element that is the same object as {@code o} ({@code ==})
+     * or -1 if this list doesn't contain it. Does not call {@code equals}.
+     * 
+     * @param o object to search for
+     * @return index of the first element that is {@code o} or -1 if this list doesn't contain it
+     */
+    public int indexOfIdentity(Object o) {
+        Object[] es = elements;
         for (int i = 0; i < size; i++) {
-            if ((e == null && elements[i] == null) || (e != null && e.equals(elements[i]))) {
+            if (es[i] == o) {
                 return i;
             }
         }
@@ -105,13 +266,20 @@ public class DynamicArray<E> implements Iterable<E> {
         checkBounds(index);
 
         E retVal = (E) elements[index];
-        for (int i = index + 1; i < size; i++) {
-            elements[i - 1] = elements[i];
-        }
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
 
         elements[size - 1] = null;
         size--;
 
+        if (changeLog != null) {
+            changeLog.record(Change.Type.REMOVE, index, retVal);
+        }
+
+        if (autoTrimThreshold > 0 && elements.length > INIT_CAPACITY
+                && elements.length - size > autoTrimThreshold * elements.length) {
+            trimToSize();
+        }
+
         return retVal;
     }
 
@@ -161,6 +329,213 @@ public class DynamicArray<E> implements Iterable<E> {
         return size <= 0;
     }
 
+    /**
+     * Returns a new array holding every element of this list, in order.
+     * 
+     * @return new array holding every element
+     */
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns every element of this list, in order, in {@code a} if it is large enough
+     * or otherwise in a new array of the same runtime type. Like {@link Collection#toArray(Object[])},
+     * the slot after the last element is set to null when {@code a} is larger than this list.
+     * 
+     * @param <T> component type of the array
+     * @param a array to fill, if it is large enough
+     * @return array holding every element
+     * @throws ArrayStoreException if an element is not an instance of {@code a}'s component type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        if (a.length < size) {
+            return (T[]) Arrays.copyOf(elements, size, a.getClass());
+        }
+
+        System.arraycopy(elements, 0, a, 0, size);
+        if (a.length > size) {
+            a[size] = null;
+        }
+
+        return a;
+    }
+
+    /**
+     * Returns a {@link List} view of this list. The view is backed by this list, so
+     * no elements are copied and changes to either are visible in both. Supports
+     * {@code get}, {@code set}, appending {@code add} and {@code remove} by index.
+     * 
+     * @return a list view of this list
+     */
+    public List<E> asList() {
+        return new ListView();
+    }
+
+    /**
+     * Shrinks the capacity of this list to its size.
+     */
+    public void trimToSize() {
+        if (elements.length > size) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Makes {@code remove} call {@link #trimToSize()} whenever more than {@code threshold}
+     * of the capacity is unused. Lists at or below the default capacity are never trimmed.
+     * The threshold must be at least 0.5 so that a trim is never undone by the next doubling.
+     * 
+     * @param threshold fraction of unused capacity that triggers a trim, or 0 to disable
+     * @throws IllegalArgumentException if {@code threshold} is neither 0 nor between 0.5 (inclusive) and 1 (exclusive)
+     */
+    public void setAutoTrimThreshold(double threshold) {
+        if (threshold != 0 && !(threshold >= 0.5 && threshold < 1)) {
+            throw new IllegalArgumentException("Illegal threshold: " + threshold);
+        }
+
+        autoTrimThreshold = threshold;
+    }
+
+    /**
+     * Returns the number of elements this list can hold without growing.
+     * 
+     * @return the capacity of this list
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Returns the estimated number of bytes used by this list's structure, not counting its elements.
+     * 
+     * @return estimated structural size in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        long bytes = MemoryLayout.shallowSizeOf(getClass()) + MemoryLayout.referenceArraySize(elements.length);
+        if (changeLog != null) {
+            bytes += changeLog.memoryFootprint();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes allocated for slots past the last element.
+     * 
+     * @return estimated unused bytes
+     */
+    @Override
+    public long capacitySlack() {
+        long bytes = (long) (elements.length - size) * MemoryLayout.REFERENCE_SIZE;
+        if (changeLog != null) {
+            bytes += changeLog.capacitySlack();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Performs {@code action} for each element, in order. Loops over the backing array
+     * directly instead of creating an iterator.
+     * 
+     * @param action action to perform
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Object[] es = elements;
+        for (int i = 0; i < size; i++) {
+            action.accept((E) es[i]);
+        }
+    }
+
+    /**
+     * Performs {@code action} for each element from position {@code from} (inclusive)
+     * to {@code to} (exclusive), in order.
+     * 
+     * @param from index of the first element
+     * @param to index after the last element
+     * @param action action to perform
+     * @throws ArrayIndexOutOfBoundsException if the range is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(int from, int to, Consumer<? super E> action) {
+        checkRange(from, to);
+
+        Object[] es = elements;
+        for (int i = from; i < to; i++) {
+            action.accept((E) es[i]);
+        }
+    }
+
+    /**
+     * Returns a new cursor over this list. Unlike {@link #iterator()}, a cursor can be
+     * rewound with {@link Cursor#reset()} and reused, so polling loops need not allocate.
+     * 
+     * @return a new cursor positioned at the first element
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Starts recording every add, remove and set in a change log keeping the last
+     * {@code capacity} changes. Returns the existing log if one is already enabled.
+     * 
+     * @param capacity minimum number of changes kept
+     * @return the change log of this list
+     */
+    public ChangeLog<E> enableChangeLog(int capacity) {
+        if (changeLog == null) {
+            changeLog = new ChangeLog<>(capacity);
+        }
+
+        return changeLog;
+    }
+
+    /**
+     * Returns the change log of this list or null if it is not enabled.
+     * 
+     * @return the change log of this list or null
+     */
+    public ChangeLog<E> changeLog() {
+        return changeLog;
+    }
+
+    /**
+     * Appends the first {@code length} elements of {@code incoming}, growing the array at most once.
+     * 
+     * @param incoming elements to append
+     * @param length number of elements to append
+     */
+    @SuppressWarnings("unchecked")
+    private void addArray(Object[] incoming, int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(incoming, 0, elements, size, length);
+
+        if (changeLog != null) {
+            for (int i = 0; i < length; i++) {
+                changeLog.record(Change.Type.ADD, size + i, (E) incoming[i]);
+            }
+        }
+
+        size += length;
+    }
+
+    /**
+     * Replaces the array with a copy holding at least {@code minCapacity} elements,
+     * doubling the capacity if that is larger.
+     * 
+     * @param minCapacity required capacity
+     */
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, Math.max(elements.length * 2, 1));
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
     /**
      * Checks if {@code index} is out of range.
      * 
@@ -173,6 +548,19 @@ public class DynamicArray<E> implements Iterable<E> {
         }
     }
 
+    /**
+     * Checks if the range from {@code from} (inclusive) to {@code to} (exclusive) is out of bounds.
+     * 
+     * @param from index of the first element
+     * @param to index after the last element
+     * @throws ArrayIndexOutOfBoundsException if the range is out of bounds
+     */
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+    }
+
     @Override
     public Iterator<E> iterator() {
         return new Iterator<E>() {
@@ -194,4 +582,86 @@ public class DynamicArray<E> implements Iterable<E> {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Reusable iterator over this list.
+     */
+    public class Cursor implements Iterator<E> {
+
+        /**
+         * Index of the next element.
+         */
+        private int index;
+
+        /**
+         * Moves this cursor back to the first element.
+         */
+        public void reset() {
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+
+            return (E) elements[index++];
+        }
+    }
+
+    /**
+     * {@link List} view backed by this list.
+     */
+    private class ListView extends AbstractList<E> implements RandomAccess {
+
+        @Override
+        public E get(int index) {
+            return DynamicArray.this.get(index);
+        }
+
+        @Override
+        public E set(int index, E e) {
+            return DynamicArray.this.set(index, e);
+        }
+
+        @Override
+        public boolean add(E e) {
+            modCount++;
+            return DynamicArray.this.add(e);
+        }
+
+        @Override
+        public E remove(int index) {
+            modCount++;
+            return DynamicArray.this.remove(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int indexOf(Object o) {
+            return DynamicArray.this.indexOf((E) o);
+        }
+
+        @Override
+        public Object[] toArray() {
+            return DynamicArray.this.toArray();
+        }
+
+        @Override
+        public <T> T[] toArray(T[] a) {
+            return DynamicArray.this.toArray(a);
+        }
+    }
+}
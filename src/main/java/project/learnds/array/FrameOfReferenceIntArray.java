@@ -0,0 +1,299 @@
+package project.learnds.array;
+
+import java.util.function.IntConsumer;
+
+import project.learnds.memory.MemoryLayout;
+import project.learnds.memory.MemorySized;
+
+/**
+ * Read-only array of ints compressed with frame-of-reference encoding.
+ * Values are split into blocks of {@code BLOCK_SIZE}; each block stores its minimum
+ * once and every value as its offset from that minimum, using only as many bits as
+ * the block's largest offset needs. Works for any data, but sorted data (such as
+ * increasing IDs or timestamps) compresses best since each block spans a narrow range.
+ * 
+ * <p>{@link #indexOf(int)} gets its speedup from skipping blocks by their range instead of
+ * from SIMD. The incubating Vector API would need {@code --add-modules jdk.incubator.vector}
+ * at compile and run time, which the build doesn't set. Inside a block whose range can hold
+ * the value, offsets are decoded and compared one at a time, so searches over wide-ranged,
+ * unsorted data gain little.
+ */
+public class FrameOfReferenceIntArray implements MemorySized {
+
+    /**
+     * Number of values per block. 128 values of k bits fill exactly 2k words.
+     */
+    static final int BLOCK_SIZE = 128;
+
+    /**
+     * Packed offsets of every block, back to back.
+     */
+    private final long[] words;
+
+    /**
+     * Minimum value of each block.
+     */
+    private final int[] blockBase;
+
+    /**
+     * Bits per offset of each block.
+     */
+    private final byte[] blockBits;
+
+    /**
+     * Index into {@code words} where each block starts.
+     */
+    private final int[] blockStart;
+
+    /**
+     * Number of values in this array.
+     */
+    private final int size;
+
+    /**
+     * Constructor that encodes {@code values}.
+     * 
+     * @param values values to encode, preferably sorted
+     */
+    public FrameOfReferenceIntArray(int[] values) {
+        size = values.length;
+
+        int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        blockBase = new int[blocks];
+        blockBits = new byte[blocks];
+        blockStart = new int[blocks];
+
+        int totalWords = 0;
+        for (int b = 0; b < blocks; b++) {
+            int from = b * BLOCK_SIZE;
+            int to = Math.min(from + BLOCK_SIZE, size);
+
+            int min = values[from];
+            int max = values[from];
+            for (int i = from + 1; i < to; i++) {
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+
+            blockBase[b] = min;
+            blockBits[b] = (byte) BitPacking.bitsRequired((long) max - min);
+            blockStart[b] = totalWords;
+            totalWords += BitPacking.wordsRequired(BLOCK_SIZE, blockBits[b]);
+        }
+
+        words = new long[totalWords];
+        for (int i = 0; i < size; i++) {
+            int b = i / BLOCK_SIZE;
+            int bits = blockBits[b];
+            long bitIndex = ((long) blockStart[b] << 6) + (long) (i % BLOCK_SIZE) * bits;
+            BitPacking.write(words, bitIndex, bits, (long) values[i] - blockBase[b]);
+        }
+    }
+
+    /**
+     * Returns the value at position {@code index}.
+     * 
+     * @param index index of the value to return
+     * @return value at position {@code index}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int get(int index) {
+        checkBounds(index);
+
+        int b = index / BLOCK_SIZE;
+        int bits = blockBits[b];
+        long bitIndex = ((long) blockStart[b] << 6) + (long) (index % BLOCK_SIZE) * bits;
+
+        return (int) (blockBase[b] + BitPacking.read(words, bitIndex, bits));
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code value} or -1 if this array doesn't contain it.
+     * Skips every block whose range cannot hold {@code value} without decoding it.
+     * 
+     * @param value value to search for
+     * @return index of the first occurrence of {@code value} or -1 if this array doesn't contain it
+     */
+    public int indexOf(int value) {
+        for (int b = 0; b < blockBase.length; b++) {
+            long offset = (long) value - blockBase[b];
+            int bits = blockBits[b];
+            if (offset < 0 || offset >= (1L << bits)) {
+                continue;
+            }
+
+            int from = b * BLOCK_SIZE;
+            int to = Math.min(from + BLOCK_SIZE, size);
+            long bitIndex = (long) blockStart[b] << 6;
+            for (int i = from; i < to; i++) {
+                if (BitPacking.read(words, bitIndex, bits) == offset) {
+                    return i;
+                }
+                bitIndex += bits;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Copies {@code length} values starting at position {@code from} into {@code dest} starting at {@code destPos}.
+     * 
+     * @param from index of the first value to copy
+     * @param dest destination array
+     * @param destPos starting position in {@code dest}
+     * @param length number of values to copy
+     * @throws ArrayIndexOutOfBoundsException if the range is out of bounds of this array or {@code dest}
+     */
+    public void decode(int from, int[] dest, int destPos, int length) {
+        if (from < 0 || length < 0 || from > size - length
+                || destPos < 0 || destPos > dest.length - length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        int i = from;
+        int end = from + length;
+        while (i < end) {
+            // decode the rest of the current block in one pass
+            int b = i / BLOCK_SIZE;
+            int bits = blockBits[b];
+            int base = blockBase[b];
+            int blockEnd = Math.min((b + 1) * BLOCK_SIZE, end);
+            long bitIndex = ((long) blockStart[b] << 6) + (long) (i % BLOCK_SIZE) * bits;
+
+            for (; i < blockEnd; i++) {
+                dest[destPos++] = (int) (base + BitPacking.read(words, bitIndex, bits));
+                bitIndex += bits;
+            }
+        }
+    }
+
+    /**
+     * Performs {@code action} for each value, in order, without boxing.
+     * 
+     * @param action action to perform
+     */
+    public void forEach(IntConsumer action) {
+        forEach(0, size, action);
+    }
+
+    /**
+     * Performs {@code action} for each value from position {@code from} (inclusive)
+     * to {@code to} (exclusive), in order, without boxing.
+     * 
+     * @param from index of the first value
+     * @param to index after the last value
+     * @param action action to perform
+     * @throws ArrayIndexOutOfBoundsException if the range is out of bounds
+     */
+    public void forEach(int from, int to, IntConsumer action) {
+        if (from < 0 || to > size || from > to) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        int i = from;
+        while (i < to) {
+            int b = i / BLOCK_SIZE;
+            int bits = blockBits[b];
+            int base = blockBase[b];
+            int blockEnd = Math.min((b + 1) * BLOCK_SIZE, to);
+            long bitIndex = ((long) blockStart[b] << 6) + (long) (i % BLOCK_SIZE) * bits;
+
+            for (; i < blockEnd; i++) {
+                action.accept((int) (base + BitPacking.read(words, bitIndex, bits)));
+                bitIndex += bits;
+            }
+        }
+    }
+
+    /**
+     * Returns all values of this array, in order, as an {@code int[]}.
+     * 
+     * @return new array holding every value
+     */
+    public int[] toIntArray() {
+        int[] retVal = new int[size];
+        decode(0, retVal, 0, size);
+
+        return retVal;
+    }
+
+    /**
+     * Returns the estimated number of bytes used by this array's structure, not counting its elements.
+     * 
+     * @return estimated structural size in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return MemoryLayout.shallowSizeOf(getClass())
+                + MemoryLayout.longArraySize(words.length)
+                + MemoryLayout.intArraySize(blockBase.length)
+                + MemoryLayout.byteArraySize(blockBits.length)
+                + MemoryLayout.intArraySize(blockStart.length);
+    }
+
+    /**
+     * Returns the estimated number of bytes allocated for unused capacity, which is
+     * the padding of a partly filled last block.
+     * 
+     * @return estimated unused bytes
+     */
+    @Override
+    public long capacitySlack() {
+        int last = size % BLOCK_SIZE;
+        if (last == 0) {
+            return 0;
+        }
+
+        int bits = blockBits[blockBits.length - 1];
+
+        return (long) (BitPacking.wordsRequired(BLOCK_SIZE, bits) - BitPacking.wordsRequired(last, bits)) * 8;
+    }
+
+    /**
+     * Returns the number of values in this array.
+     * 
+     * @return the number of values in this array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this array contains no values.
+     * 
+     * @return true if this array contains no values
+     */
+    public boolean isEmpty() {
+        return size <= 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(get(i));
+        }
+
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    /**
+     * Checks if {@code index} is out of range.
+     * 
+     * @param index index to check
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package project.learnds.array;
+
+import java.util.function.Consumer;
+
+/**
+ * Ring buffer for any number of producer threads and exactly one consumer thread.
+ * Producers claim slots by advancing {@code tail} with a compare-and-set and then
+ * publish the element into the claimed slot. The consumer treats a null slot
+ * as not yet published.
+ */
+public class MpscRingBuffer<E> extends RingBuffer<E> {
+
+    /**
+     * Cached {@code head + capacity}. Producers may claim positions below this
+     * without reading {@code head}.
+     */
+    private final Sequence producerLimit;
+
+    /**
+     * Constructor that uses {@code capacity} rounded up to a power of two and spins while waiting.
+     * 
+     * @param capacity minimum capacity
+     */
+    public MpscRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.SPIN);
+    }
+
+    /**
+     * Constructor that uses {@code capacity} rounded up to a power of two.
+     * 
+     * @param capacity minimum capacity
+     * @param waitStrategy strategy used by {@code put} and {@code take}
+     */
+    public MpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+        producerLimit = new Sequence(buffer.length);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+
+        long t = claim();
+        if (t < 0) {
+            return false;
+        }
+
+        SLOT.setRelease(buffer, (int) t & mask, e);
+
+        return true;
+    }
+
+    @Override
+    public int offer(E[] batch) {
+        checkBatch(batch);
+        if (batch.length == 0) {
+            return 0;
+        }
+
+        long t;
+        int n;
+        while (true) {
+            t = tail.get();
+            n = (int) Math.min(batch.length, limit(t, batch.length) - t);
+            if (n <= 0) {
+                return 0;
+            }
+            if (tail.compareAndSet(t, t + n)) {
+                break;
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            SLOT.setRelease(buffer, (int) (t + i) & mask, batch[i]);
+        }
+
+        return n;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E poll() {
+        long h = head.getPlain();
+        int index = (int) h & mask;
+        E e = (E) SLOT.getAcquire(buffer, index);
+        if (e == null) {
+            if (h == tail.get()) {
+                return null;
+            }
+
+            // slot was claimed but the producer has not published it yet
+            do {
+                Thread.onSpinWait();
+                e = (E) SLOT.getAcquire(buffer, index);
+            } while (e == null);
+        }
+
+        buffer[index] = null;
+        head.set(h + 1);
+
+        return e;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long h = head.getPlain();
+        int i = 0;
+        try {
+            while (i < limit) {
+                int index = (int) (h + i) & mask;
+                E e = (E) SLOT.getAcquire(buffer, index);
+                if (e == null) {
+                    break;
+                }
+
+                buffer[index] = null;
+                i++;
+                consumer.accept(e);
+            }
+        } finally {
+            if (i > 0) {
+                head.set(h + i);
+            }
+        }
+
+        return i;
+    }
+
+    @Override
+    int sequenceCount() {
+        return super.sequenceCount() + 1;
+    }
+
+    /**
+     * Claims one slot for a producer.
+     * 
+     * @return the claimed position or -1 if this ring buffer is full
+     */
+    private long claim() {
+        while (true) {
+            long t = tail.get();
+            if (limit(t, 1) - t < 1) {
+                return -1;
+            }
+            if (tail.compareAndSet(t, t + 1)) {
+                return t;
+            }
+        }
+    }
+
+    /**
+     * Returns the position producers may claim up to, refreshing it from
+     * {@code head} if fewer than {@code wanted} slots are left below the cached limit.
+     * 
+     * @param t current tail
+     * @param wanted number of slots the producer would like
+     * @return exclusive upper bound for claimable positions
+     */
+    private long limit(long t, int wanted) {
+        long limit = producerLimit.get();
+        if (limit - t < wanted) {
+            limit = head.get() + buffer.length;
+            producerLimit.set(limit);
+        }
+
+        return limit;
+    }
+}
@@ -0,0 +1,334 @@
+package project.learnds.array;
+
+import java.util.function.IntConsumer;
+
+import project.learnds.memory.MemoryLayout;
+import project.learnds.memory.MemorySized;
+
+/**
+ * Growable array of ints stored with the fewest bits per value that fit every value added so far.
+ * Values are packed back to back inside {@code long} words. When a value that needs more bits
+ * is added or set, every value is repacked at the wider width.
+ * Negative values are stored as 32-bit two's complement, so one negative value widens the whole array to 32 bits.
+ * 
+ * <p>{@link #indexOf(int)} is a scalar loop, not a Vector API one. {@code jdk.incubator.vector}
+ * has to be enabled with {@code --add-modules} for every compile and run, which this project's
+ * build doesn't do, and values of most widths straddle word boundaries, so they would have to
+ * be unpacked before lanes could be compared anyway. Searching for a value wider than the array
+ * returns at once, but a search that does scan decodes one value per iteration, so it runs at
+ * scalar speed rather than several values per instruction.
+ */
+public class PackedIntArray implements MemorySized {
+
+    /**
+     * Default initial capacity.
+     */
+    private static final int INIT_CAPACITY = 16;
+
+    /**
+     * Packed values.
+     */
+    private long[] words;
+
+    /**
+     * Number of bits used by each value. Between 1 and 32.
+     */
+    private int bits;
+
+    /**
+     * Maximum number of values {@code words} can hold at the current width.
+     */
+    private int capacity;
+
+    /**
+     * Number of values in this array.
+     */
+    private int size;
+
+    /**
+     * Default constructor that uses {@code INIT_CAPACITY} as its initial capacity and 1 bit per value.
+     */
+    public PackedIntArray() {
+        this(INIT_CAPACITY, 1);
+    }
+
+    /**
+     * Constructor that uses {@code capacity} as its initial capacity and {@code bits} bits per value.
+     * 
+     * @param capacity initial capacity
+     * @param bits initial number of bits per value, between 1 and 32
+     * @throws IllegalArgumentException if {@code capacity} is negative or {@code bits} is out of range
+     */
+    public PackedIntArray(int capacity, int bits) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        if (bits < 1 || bits > 32) {
+            throw new IllegalArgumentException("Illegal bits per value: " + bits);
+        }
+
+        this.bits = bits;
+        this.capacity = capacity;
+        words = new long[BitPacking.wordsRequired(capacity, bits)];
+    }
+
+    /**
+     * Appends {@code value} to the end of this array, widening every value if {@code value} does not fit.
+     * 
+     * @param value value to be appended
+     * @return true
+     */
+    public boolean add(int value) {
+        // double capacity if full
+        int newCapacity = size >= capacity ? Math.max(capacity * 2, INIT_CAPACITY) : capacity;
+        int needed = Math.max(bits, bitsRequired(value));
+        if (newCapacity != capacity || needed != bits) {
+            repack(newCapacity, needed);
+        }
+
+        BitPacking.write(words, (long) size * bits, bits, value);
+        size++;
+
+        return true;
+    }
+
+    /**
+     * Returns the value at position {@code index}.
+     * 
+     * @param index index of the value to return
+     * @return value at position {@code index}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int get(int index) {
+        checkBounds(index);
+
+        return (int) BitPacking.read(words, (long) index * bits, bits);
+    }
+
+    /**
+     * Replaces the value at position {@code index}, widening every value if {@code value} does not fit.
+     * 
+     * @param index index of the value to replace
+     * @param value new value
+     * @return the value previously at position {@code index}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int set(int index, int value) {
+        int retVal = get(index);
+
+        int needed = bitsRequired(value);
+        if (needed > bits) {
+            repack(capacity, needed);
+        }
+
+        BitPacking.write(words, (long) index * bits, bits, value);
+
+        return retVal;
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code value} or -1 if this array doesn't contain it.
+     * Returns immediately if {@code value} needs more bits than this array uses.
+     * 
+     * @param value value to search for
+     * @return index of the first occurrence of {@code value} or -1 if this array doesn't contain it
+     */
+    public int indexOf(int value) {
+        if (bitsRequired(value) > bits) {
+            return -1;
+        }
+
+        long target = value & ((1L << bits) - 1);
+        long bitIndex = 0;
+        for (int i = 0; i < size; i++) {
+            if (BitPacking.read(words, bitIndex, bits) == target) {
+                return i;
+            }
+            bitIndex += bits;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Copies {@code length} values starting at position {@code from} into {@code dest} starting at {@code destPos}.
+     * 
+     * @param from index of the first value to copy
+     * @param dest destination array
+     * @param destPos starting position in {@code dest}
+     * @param length number of values to copy
+     * @throws ArrayIndexOutOfBoundsException if the range is out of bounds of this array or {@code dest}
+     */
+    public void decode(int from, int[] dest, int destPos, int length) {
+        if (from < 0 || length < 0 || from > size - length
+                || destPos < 0 || destPos > dest.length - length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        long bitIndex = (long) from * bits;
+        for (int i = 0; i < length; i++) {
+            dest[destPos + i] = (int) BitPacking.read(words, bitIndex, bits);
+            bitIndex += bits;
+        }
+    }
+
+    /**
+     * Performs {@code action} for each value, in order, without boxing.
+     * 
+     * @param action action to perform
+     */
+    public void forEach(IntConsumer action) {
+        forEach(0, size, action);
+    }
+
+    /**
+     * Performs {@code action} for each value from position {@code from} (inclusive)
+     * to {@code to} (exclusive), in order, without boxing.
+     * 
+     * @param from index of the first value
+     * @param to index after the last value
+     * @param action action to perform
+     * @throws ArrayIndexOutOfBoundsException if the range is out of bounds
+     */
+    public void forEach(int from, int to, IntConsumer action) {
+        if (from < 0 || to > size || from > to) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+
+        long bitIndex = (long) from * bits;
+        for (int i = from; i < to; i++) {
+            action.accept((int) BitPacking.read(words, bitIndex, bits));
+            bitIndex += bits;
+        }
+    }
+
+    /**
+     * Returns all values of this array, in order, as an {@code int[]}.
+     * 
+     * @return new array holding every value
+     */
+    public int[] toIntArray() {
+        int[] retVal = new int[size];
+        decode(0, retVal, 0, size);
+
+        return retVal;
+    }
+
+    /**
+     * Shrinks the capacity of this array to its size.
+     */
+    public void trimToSize() {
+        if (capacity > size) {
+            repack(size, bits);
+        }
+    }
+
+    /**
+     * Returns the estimated number of bytes used by this array's structure, not counting its elements.
+     * 
+     * @return estimated structural size in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return MemoryLayout.shallowSizeOf(getClass()) + MemoryLayout.longArraySize(words.length);
+    }
+
+    /**
+     * Returns the estimated number of bytes allocated for words past the last value.
+     * 
+     * @return estimated unused bytes
+     */
+    @Override
+    public long capacitySlack() {
+        return (long) (words.length - BitPacking.wordsRequired(size, bits)) * 8;
+    }
+
+    /**
+     * Returns the number of bits currently used for each value.
+     * 
+     * @return the number of bits per value
+     */
+    public int bitsPerValue() {
+        return bits;
+    }
+
+    /**
+     * Returns the number of values in this array.
+     * 
+     * @return the number of values in this array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this array contains no values.
+     * 
+     * @return true if this array contains no values
+     */
+    public boolean isEmpty() {
+        return size <= 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(get(i));
+        }
+
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    /**
+     * Returns the number of bits needed to store {@code value}. Negative values need all 32.
+     * 
+     * @param value value to measure
+     * @return number of bits needed, between 1 and 32
+     */
+    private static int bitsRequired(int value) {
+        return value < 0 ? 32 : BitPacking.bitsRequired(value);
+    }
+
+    /**
+     * Moves every value into new words sized for {@code newCapacity} values of {@code newBits} bits.
+     * 
+     * @param newCapacity new capacity
+     * @param newBits new number of bits per value
+     */
+    private void repack(int newCapacity, int newBits) {
+        long[] temp = new long[BitPacking.wordsRequired(newCapacity, newBits)];
+
+        if (newBits == bits) {
+            System.arraycopy(words, 0, temp, 0, BitPacking.wordsRequired(size, bits));
+        } else {
+            for (int i = 0; i < size; i++) {
+                long v = BitPacking.read(words, (long) i * bits, bits);
+                BitPacking.write(temp, (long) i * newBits, newBits, v);
+            }
+        }
+
+        words = temp;
+        bits = newBits;
+        capacity = newCapacity;
+    }
+
+    /**
+     * Checks if {@code index} is out of range.
+     * 
+     * @param index index to check
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+}
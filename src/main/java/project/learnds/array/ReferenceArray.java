@@ -0,0 +1,345 @@
+package project.learnds.array;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+import project.learnds.memory.MemoryLayout;
+import project.learnds.memory.MemorySized;
+
+/**
+ * Slot table whose slots hold their elements through weak or soft references,
+ * so the garbage collector can reclaim elements nothing else references.
+ * An element keeps the index it was added at until it is removed or reclaimed.
+ * Freed indices are reused by later adds. Does not allow null values.
+ *
+ * <p>Slots whose element was reclaimed are freed lazily, when {@link #add} or
+ * {@link #expunge} drains the reference queue. Until then {@link #get} returns null
+ * for them, but they still count towards {@link #size}.
+ */
+public class ReferenceArray<E> implements MemorySized {
+
+    /**
+     * Initial capacity of a list constructed with no arguments.
+     */
+    private static final int INIT_CAPACITY = 16;
+
+    /**
+     * Slots of this list. Each one is null or a reference created by {@code strength}.
+     */
+    private Object[] slots;
+
+    /**
+     * Number of slots that have ever been used. Slots at or past this index are always null.
+     */
+    private int limit;
+
+    /**
+     * Stack of freed indices below {@code limit}, reused before {@code limit} grows.
+     */
+    private int[] freeIndices = new int[0];
+
+    /**
+     * Number of indices in {@code freeIndices}.
+     */
+    private int freeCount;
+
+    /**
+     * Number of occupied slots, including reclaimed ones that haven't been expunged yet.
+     */
+    private int size;
+
+    /**
+     * Number of slots freed because the garbage collector reclaimed their element.
+     */
+    private long clearedCount;
+
+    /**
+     * How strongly slots hold on to their elements.
+     */
+    private final ReferenceStrength strength;
+
+    /**
+     * Queue the references of reclaimed elements are enqueued on.
+     */
+    private final ReferenceQueue<E> queue = new ReferenceQueue<>();
+
+    /**
+     * Constructor that holds elements through soft references.
+     */
+    public ReferenceArray() {
+        this(ReferenceStrength.SOFT, INIT_CAPACITY);
+    }
+
+    /**
+     * Constructor with the initial capacity of 16 slots.
+     * 
+     * @param strength how strongly slots hold on to their elements
+     */
+    public ReferenceArray(ReferenceStrength strength) {
+        this(strength, INIT_CAPACITY);
+    }
+
+    /**
+     * Constructor that lets the user set the initial capacity.
+     * 
+     * @param strength how strongly slots hold on to their elements
+     * @param capacity initial capacity
+     * @throws NullPointerException if {@code strength} is null
+     */
+    public ReferenceArray(ReferenceStrength strength, int capacity) {
+        if (strength == null) {
+            throw new NullPointerException();
+        }
+
+        this.strength = strength;
+        slots = new Object[capacity];
+    }
+
+    /**
+     * Stores {@code e} in a free slot and returns the slot's index. Expunges
+     * reclaimed slots first, so their indices can be reused.
+     * 
+     * @param e element to store
+     * @return index of the slot holding {@code e}
+     * @throws NullPointerException if {@code e} is null
+     */
+    public int add(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+
+        expunge();
+
+        int index;
+        if (freeCount > 0) {
+            index = freeIndices[--freeCount];
+        } else {
+            if (limit >= slots.length) {
+                slots = Arrays.copyOf(slots, Math.max(slots.length * 2, 1));
+            }
+            index = limit++;
+        }
+
+        slots[index] = strength.newReference(e, index, queue);
+        size++;
+
+        return index;
+    }
+
+    /**
+     * Returns the element at position {@code index}, or null if the slot is free
+     * or its element has been reclaimed.
+     * 
+     * @param index index of the element to return
+     * @return element at position {@code index}, or null
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkBounds(index);
+
+        Reference<E> ref = (Reference<E>) slots[index];
+
+        return ref == null ? null : ref.get();
+    }
+
+    /**
+     * Frees the slot at position {@code index} so its index can be reused.
+     * Returns the element that was stored there, or null if the slot was
+     * already free or its element has been reclaimed.
+     * 
+     * @param index index of the slot to free
+     * @return the element previously at position {@code index}, or null
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkBounds(index);
+
+        Reference<E> ref = (Reference<E>) slots[index];
+        if (ref == null) {
+            return null;
+        }
+
+        E retVal = ref.get();
+        // clearing doesn't enqueue, and expunge ignores references no longer in their slot
+        ref.clear();
+        release(index);
+
+        return retVal;
+    }
+
+    /**
+     * Frees every slot whose element has been reclaimed by the garbage collector.
+     * Returns the number of slots freed.
+     * 
+     * @return the number of slots freed
+     */
+    public int expunge() {
+        int retVal = 0;
+
+        Reference<? extends E> ref;
+        while ((ref = queue.poll()) != null) {
+            int index = ((ReferenceStrength.Slot) ref).index();
+            // the slot may have been removed, and even reused, before its old reference was enqueued
+            if (slots[index] == ref) {
+                release(index);
+                retVal++;
+            }
+        }
+
+        clearedCount += retVal;
+
+        return retVal;
+    }
+
+    /**
+     * Performs {@code action} on every element that hasn't been reclaimed, along with its index, in index order.
+     * 
+     * @param action action to be performed on each element and its index
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjIntConsumer<? super E> action) {
+        Object[] ss = slots;
+        for (int i = 0; i < limit; i++) {
+            Reference<E> ref = (Reference<E>) ss[i];
+            if (ref != null) {
+                E e = ref.get();
+                if (e != null) {
+                    action.accept(e, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of occupied slots, including slots whose element has been
+     * reclaimed but not yet expunged.
+     * 
+     * @return the number of occupied slots
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if no slot is occupied.
+     * 
+     * @return true if no slot is occupied
+     */
+    public boolean isEmpty() {
+        return size <= 0;
+    }
+
+    /**
+     * Returns the number of slots the backing array can hold without growing.
+     * 
+     * @return the capacity of this list
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the number of freed indices waiting to be reused.
+     * 
+     * @return the number of freed indices waiting to be reused
+     */
+    public int freeSlots() {
+        return freeCount;
+    }
+
+    /**
+     * Returns the number of slots that have been freed because the garbage collector
+     * reclaimed their element. Does not count slots freed by {@link #remove}.
+     * 
+     * @return the number of slots freed by the garbage collector
+     */
+    public long clearedCount() {
+        return clearedCount;
+    }
+
+    /**
+     * Returns how strongly slots hold on to their elements.
+     * 
+     * @return how strongly slots hold on to their elements
+     */
+    public ReferenceStrength strength() {
+        return strength;
+    }
+
+    /**
+     * Returns the estimated number of bytes used by this list's structure, including
+     * one reference object per occupied slot but not the elements themselves.
+     * 
+     * @return estimated structural size in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return MemoryLayout.shallowSizeOf(getClass())
+                + MemoryLayout.shallowSizeOf(ReferenceQueue.class)
+                + MemoryLayout.referenceArraySize(slots.length)
+                + MemoryLayout.intArraySize(freeIndices.length)
+                + size * MemoryLayout.shallowSizeOf(strength.referenceClass());
+    }
+
+    /**
+     * Returns the estimated number of bytes taken by unoccupied slots and unused free-list entries.
+     * 
+     * @return estimated unused bytes
+     */
+    @Override
+    public long capacitySlack() {
+        return (long) (slots.length - size) * MemoryLayout.REFERENCE_SIZE
+                + (long) (freeIndices.length - freeCount) * Integer.BYTES;
+    }
+
+    /**
+     * Returns a string representation of this list. Free and reclaimed slots are shown as null.
+     * 
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < limit; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(get(i));
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    /**
+     * Empties the slot at position {@code index} and pushes the index onto the free list.
+     * 
+     * @param index index of the slot to free
+     */
+    private void release(int index) {
+        slots[index] = null;
+
+        if (freeCount >= freeIndices.length) {
+            freeIndices = Arrays.copyOf(freeIndices, Math.max(freeIndices.length * 2, 4));
+        }
+        freeIndices[freeCount++] = index;
+
+        size--;
+    }
+
+    /**
+     * Checks if {@code index} is out of range.
+     * 
+     * @param index index to check
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    private void checkBounds(int index) {
+        if (index < 0 || index >= limit) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package project.learnds.array;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+
+/**
+ * How strongly the slots of a {@link ReferenceArray} hold on to their elements.
+ */
+public enum ReferenceStrength {
+
+    /**
+     * Elements are reclaimed as soon as nothing else strongly references them.
+     */
+    WEAK(WeakSlot.class) {
+        @Override
+        <E> Reference<E> newReference(E e, int index, ReferenceQueue<? super E> queue) {
+            return new WeakSlot<>(e, index, queue);
+        }
+    },
+
+    /**
+     * Elements are kept until the garbage collector needs the memory.
+     * Suited to caches, since entries survive until there is memory pressure.
+     */
+    SOFT(SoftSlot.class) {
+        @Override
+        <E> Reference<E> newReference(E e, int index, ReferenceQueue<? super E> queue) {
+            return new SoftSlot<>(e, index, queue);
+        }
+    };
+
+    /**
+     * Class of the references created by this strength.
+     */
+    private final Class<?> referenceClass;
+
+    ReferenceStrength(Class<?> referenceClass) {
+        this.referenceClass = referenceClass;
+    }
+
+    /**
+     * Returns the class of the references created by this strength, for size estimates.
+     * 
+     * @return class of the references created by {@link #newReference}
+     */
+    Class<?> referenceClass() {
+        return referenceClass;
+    }
+
+    /**
+     * Returns a reference to {@code e} for slot {@code index}, registered with {@code queue}.
+     * 
+     * @param <E> type of the element
+     * @param e element to reference
+     * @param index index of the slot that will hold the reference
+     * @param queue queue the reference is enqueued on once it is cleared
+     * @return reference to {@code e} that also implements {@link Slot}
+     */
+    abstract <E> Reference<E> newReference(E e, int index, ReferenceQueue<? super E> queue);
+
+    /**
+     * Reference that remembers which slot holds it.
+     */
+    interface Slot {
+
+        /**
+         * Returns the index of the slot holding this reference.
+         * 
+         * @return index of the slot holding this reference
+         */
+        int index();
+    }
+
+    /**
+     * Weak reference that remembers which slot holds it.
+     */
+    private static final class WeakSlot<E> extends WeakReference<E> implements Slot {
+
+        /**
+         * Index of the slot holding this reference.
+         */
+        private final int index;
+
+        WeakSlot(E e, int index, ReferenceQueue<? super E> queue) {
+            super(e, queue);
+            this.index = index;
+        }
+
+        @Override
+        public int index() {
+            return index;
+        }
+    }
+
+    /**
+     * Soft reference that remembers which slot holds it.
+     */
+    private static final class SoftSlot<E> extends SoftReference<E> implements Slot {
+
+        /**
+         * Index of the slot holding this reference.
+         */
+        private final int index;
+
+        SoftSlot(E e, int index, ReferenceQueue<? super E> queue) {
+            super(e, queue);
+            this.index = index;
+        }
+
+        @Override
+        public int index() {
+            return index;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package project.learnds.array;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+import project.learnds.memory.MemoryLayout;
+import project.learnds.memory.MemorySized;
+
+/**
+ * Base class for the fixed-capacity, lock-free ring buffers. Capacity is always
+ * a power of two so a position can be mapped to a slot with a mask instead of a modulo.
+ * Does not allow null values, since an empty slot is represented by null.
+ */
+public abstract class RingBuffer<E> implements MemorySized {
+
+    /**
+     * Maximum capacity. Largest power of two that fits in an int.
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Handle used for ordered access to the slots of {@code buffer}.
+     */
+    static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * Slots of this ring buffer.
+     */
+    final Object[] buffer;
+
+    /**
+     * {@code buffer.length - 1}. Maps a position to a slot.
+     */
+    final int mask;
+
+    /**
+     * Position of the next element to be consumed. Only written by the consumer.
+     */
+    final Sequence head = new Sequence(0);
+
+    /**
+     * Position of the next slot to be produced into.
+     */
+    final Sequence tail = new Sequence(0);
+
+    /**
+     * How {@code put} and {@code take} wait while this ring buffer is full or empty.
+     */
+    private final WaitStrategy waitStrategy;
+
+    /**
+     * Constructor that rounds {@code capacity} up to the next power of two.
+     * 
+     * @param capacity minimum capacity
+     * @param waitStrategy strategy used by {@code put} and {@code take}
+     * @throws IllegalArgumentException if {@code capacity} is less than 1 or greater than 2^30
+     */
+    RingBuffer(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        if (waitStrategy == null) {
+            throw new NullPointerException();
+        }
+
+        int actual = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        buffer = new Object[actual];
+        mask = actual - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Inserts {@code e} if there is space. Returns immediately.
+     * 
+     * @param e element to insert
+     * @return true if {@code e} was inserted, false if this ring buffer is full
+     * @throws NullPointerException if {@code e} is null
+     */
+    public abstract boolean offer(E e);
+
+    /**
+     * Inserts as many elements of {@code batch} as there is space for, in order.
+     * The inserted elements take consecutive positions, but a consumer is not
+     * guaranteed to see them all at once: it may see the start of the batch
+     * before the rest has been published.
+     * 
+     * @param batch elements to insert
+     * @return number of elements inserted
+     * @throws NullPointerException if {@code batch} or any of its elements is null
+     */
+    public abstract int offer(E[] batch);
+
+    /**
+     * Removes and returns the oldest element. Returns immediately.
+     * 
+     * @return the oldest element or null if this ring buffer is empty
+     */
+    public abstract E poll();
+
+    /**
+     * Removes up to {@code limit} elements and passes them to {@code consumer} in order.
+     * Does not wait for elements that are not yet available.
+     * 
+     * @param consumer receives each removed element
+     * @param limit maximum number of elements to remove
+     * @return number of elements removed
+     */
+    public abstract int drain(Consumer<? super E> consumer, int limit);
+
+    /**
+     * Inserts {@code e}, waiting with the configured {@link WaitStrategy} while this ring buffer is full.
+     * 
+     * @param e element to insert
+     * @throws NullPointerException if {@code e} is null
+     */
+    public void put(E e) {
+        while (!offer(e)) {
+            waitStrategy.idle();
+        }
+    }
+
+    /**
+     * Removes and returns the oldest element, waiting with the configured
+     * {@link WaitStrategy} while this ring buffer is empty.
+     * 
+     * @return the oldest element
+     */
+    public E take() {
+        E e;
+        while ((e = poll()) == null) {
+            waitStrategy.idle();
+        }
+
+        return e;
+    }
+
+    /**
+     * Returns the number of elements in this ring buffer. Only a snapshot
+     * if other threads are producing or consuming.
+     * 
+     * @return the number of elements in this ring buffer
+     */
+    public int size() {
+        long after = head.get();
+        while (true) {
+            long before = after;
+            long t = tail.get();
+            after = head.get();
+            if (before == after) {
+                return (int) (t - after);
+            }
+        }
+    }
+
+    /**
+     * Returns true if this ring buffer contains no elements.
+     * 
+     * @return true if this ring buffer contains no elements
+     */
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    /**
+     * Returns the maximum number of elements this ring buffer can hold.
+     * 
+     * @return capacity of this ring buffer
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Returns the estimated number of bytes used by this ring buffer's structure, not counting its elements.
+     * 
+     * @return estimated structural size in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return MemoryLayout.shallowSizeOf(getClass())
+                + MemoryLayout.referenceArraySize(buffer.length)
+                + sequenceCount() * MemoryLayout.shallowSizeOf(Sequence.class);
+    }
+
+    /**
+     * Returns the estimated number of bytes allocated for empty slots.
+     * 
+     * @return estimated unused bytes
+     */
+    @Override
+    public long capacitySlack() {
+        return (long) (buffer.length - size()) * MemoryLayout.REFERENCE_SIZE;
+    }
+
+    /**
+     * Returns the number of padded counters this ring buffer allocates.
+     * 
+     * @return the number of {@link Sequence} instances
+     */
+    int sequenceCount() {
+        return 2;
+    }
+
+    /**
+     * Checks that {@code batch} and all of its elements are non-null.
+     * 
+     * @param batch batch to check
+     * @throws NullPointerException if {@code batch} or any of its elements is null
+     */
+    static void checkBatch(Object[] batch) {
+        for (Object o : batch) {
+            if (o == null) {
+                throw new NullPointerException();
+            }
+        }
+    }
+}
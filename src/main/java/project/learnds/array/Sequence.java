@@ -0,0 +1,101 @@
+package project.learnds.array;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Padding placed before the counter value.
+ */
+abstract class SequenceLhsPadding {
+    long p01, p02, p03, p04, p05, p06, p07;
+}
+
+/**
+ * Holds the counter value.
+ */
+abstract class SequenceValue extends SequenceLhsPadding {
+    volatile long value;
+}
+
+/**
+ * Padding placed after the counter value.
+ */
+abstract class SequenceRhsPadding extends SequenceValue {
+    long p11, p12, p13, p14, p15, p16, p17;
+}
+
+/**
+ * A counter padded on both sides so it sits on its own cache line.
+ * Used for the head and tail positions of the ring buffers, which are
+ * written by different threads and would otherwise cause false sharing.
+ */
+final class Sequence extends SequenceRhsPadding {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Constructor that uses {@code initial} as the starting value.
+     * 
+     * @param initial starting value
+     */
+    Sequence(long initial) {
+        VALUE.setRelease(this, initial);
+    }
+
+    /**
+     * Returns the value with acquire semantics.
+     * 
+     * @return current value
+     */
+    long get() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    /**
+     * Returns the value without any ordering guarantees. Only safe for the
+     * thread that owns (writes) this counter.
+     * 
+     * @return current value
+     */
+    long getPlain() {
+        return (long) VALUE.get(this);
+    }
+
+    /**
+     * Sets the value without any ordering guarantees. Only safe for
+     * values that are read by the owning thread alone.
+     * 
+     * @param v new value
+     */
+    void setPlain(long v) {
+        VALUE.set(this, v);
+    }
+
+    /**
+     * Sets the value with release semantics.
+     * 
+     * @param v new value
+     */
+    void set(long v) {
+        VALUE.setRelease(this, v);
+    }
+
+    /**
+     * Atomically sets the value to {@code update} if it currently equals {@code expect}.
+     * 
+     * @param expect expected value
+     * @param update new value
+     * @return true if successful
+     */
+    boolean compareAndSet(long expect, long update) {
+        return VALUE.compareAndSet(this, expect, update);
+    }
+}
@@ -0,0 +1,139 @@
+package project.learnds.array;
+
+import java.util.function.Consumer;
+
+/**
+ * Ring buffer for exactly one producer thread and one consumer thread.
+ * Each side caches the other side's position so the shared counters are
+ * only read when the cached value says the buffer looks full or empty.
+ */
+public class SpscRingBuffer<E> extends RingBuffer<E> {
+
+    /**
+     * Producer's cached copy of {@code head}.
+     */
+    private final Sequence headCache = new Sequence(0);
+
+    /**
+     * Consumer's cached copy of {@code tail}.
+     */
+    private final Sequence tailCache = new Sequence(0);
+
+    /**
+     * Constructor that uses {@code capacity} rounded up to a power of two and spins while waiting.
+     * 
+     * @param capacity minimum capacity
+     */
+    public SpscRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.SPIN);
+    }
+
+    /**
+     * Constructor that uses {@code capacity} rounded up to a power of two.
+     * 
+     * @param capacity minimum capacity
+     * @param waitStrategy strategy used by {@code put} and {@code take}
+     */
+    public SpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+
+        long t = tail.getPlain();
+        if (available(t, 1) < 1) {
+            return false;
+        }
+
+        buffer[(int) t & mask] = e;
+        tail.set(t + 1);
+
+        return true;
+    }
+
+    @Override
+    public int offer(E[] batch) {
+        checkBatch(batch);
+
+        long t = tail.getPlain();
+        int n = (int) Math.min(batch.length, available(t, batch.length));
+        for (int i = 0; i < n; i++) {
+            buffer[(int) (t + i) & mask] = batch[i];
+        }
+
+        if (n > 0) {
+            tail.set(t + n);
+        }
+
+        return n;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E poll() {
+        long h = head.getPlain();
+        if (h >= tailCache.getPlain()) {
+            tailCache.setPlain(tail.get());
+            if (h >= tailCache.getPlain()) {
+                return null;
+            }
+        }
+
+        int index = (int) h & mask;
+        E e = (E) buffer[index];
+        buffer[index] = null;
+        head.set(h + 1);
+
+        return e;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long h = head.getPlain();
+        int n = (int) Math.max(0, Math.min(limit, tail.get() - h));
+        int i = 0;
+        try {
+            while (i < n) {
+                int index = (int) (h + i) & mask;
+                E e = (E) buffer[index];
+                buffer[index] = null;
+                i++;
+                consumer.accept(e);
+            }
+        } finally {
+            if (i > 0) {
+                head.set(h + i);
+            }
+        }
+
+        return n;
+    }
+
+    @Override
+    int sequenceCount() {
+        return super.sequenceCount() + 2;
+    }
+
+    /**
+     * Returns the number of free slots as seen by the producer at position {@code t}.
+     * Only refreshes the cached head when the cached value shows fewer than {@code wanted} free slots.
+     * 
+     * @param t producer's current position
+     * @param wanted number of slots the producer would like
+     * @return number of free slots
+     */
+    private long available(long t, int wanted) {
+        long free = buffer.length - (t - headCache.getPlain());
+        if (free < wanted) {
+            headCache.setPlain(head.get());
+            free = buffer.length - (t - headCache.getPlain());
+        }
+
+        return free;
+    }
+}
@@ -0,0 +1,44 @@
+package project.learnds.array;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Strategies for how a thread waits while a ring buffer is full or empty.
+ */
+public enum WaitStrategy {
+
+    /**
+     * Busy spins. Lowest latency, but burns a core while waiting.
+     */
+    SPIN {
+        @Override
+        void idle() {
+            Thread.onSpinWait();
+        }
+    },
+
+    /**
+     * Yields the processor to other threads between attempts.
+     */
+    YIELD {
+        @Override
+        void idle() {
+            Thread.yield();
+        }
+    },
+
+    /**
+     * Parks the thread for a short time between attempts. Uses the least CPU.
+     */
+    PARK {
+        @Override
+        void idle() {
+            LockSupport.parkNanos(1_000L);
+        }
+    };
+
+    /**
+     * Called once for every failed attempt to offer or poll.
+     */
+    abstract void idle();
+}
@@ -0,0 +1,335 @@
+package project.learnds.cache;
+
+import java.util.HashMap;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
+import project.learnds.linkedlist.DoublyLinkedList;
+
+/**
+ * Base class for the bounded caches. Keeps a hash index from key to entry and
+ * leaves the ordering of entries (and so the choice of eviction victim) to subclasses,
+ * which keep each entry's node in a {@link DoublyLinkedList} so every operation is O(1).
+ * Neither keys nor values may be null. Not thread safe, see {@link SegmentedCache}.
+ */
+public abstract class AbstractCache<K, V> {
+
+    /**
+     * Class that represents a single key-value mapping in a cache.
+     */
+    static class Entry<K, V> {
+
+        /**
+         * Key of this entry.
+         */
+        final K key;
+
+        /**
+         * Value of this entry.
+         */
+        V value;
+
+        /**
+         * Weight of this entry, as computed by the weigher.
+         */
+        int weight;
+
+        /**
+         * Node holding this entry in the subclass's ordering list.
+         */
+        DoublyLinkedList.Node<Entry<K, V>> node;
+
+        /**
+         * Default constructor using the specified {@code key}, {@code value} and {@code weight}.
+         * 
+         * @param key key of this entry
+         * @param value value of this entry
+         * @param weight weight of this entry
+         */
+        Entry(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Index from key to entry.
+     */
+    private final HashMap<K, Entry<K, V>> index = new HashMap<>();
+
+    /**
+     * Maximum total weight of all entries.
+     */
+    private final long maxWeight;
+
+    /**
+     * Computes the weight of an entry.
+     */
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+
+    /**
+     * Called with every evicted entry. May be null.
+     */
+    private final BiConsumer<? super K, ? super V> evictionListener;
+
+    /**
+     * Total weight of all entries.
+     */
+    private long weight;
+
+    /**
+     * Number of lookups that found a value.
+     */
+    private long hits;
+
+    /**
+     * Number of lookups that found no value.
+     */
+    private long misses;
+
+    /**
+     * Number of entries removed to stay within capacity.
+     */
+    private long evictions;
+
+    /**
+     * Constructor used by subclasses.
+     * 
+     * @param maxWeight maximum total weight of all entries
+     * @param weigher computes the weight of an entry
+     * @param evictionListener called with every evicted entry, may be null
+     * @throws IllegalArgumentException if {@code maxWeight} is negative
+     */
+    AbstractCache(long maxWeight, ToIntBiFunction<? super K, ? super V> weigher,
+            BiConsumer<? super K, ? super V> evictionListener) {
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + maxWeight);
+        }
+        if (weigher == null) {
+            throw new NullPointerException();
+        }
+
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Returns the value mapped to {@code key} or null if there is none.
+     * Counts as a use of the entry.
+     * 
+     * @param key key to look up
+     * @return the value mapped to {@code key} or null if there is none
+     */
+    public V get(K key) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+
+        Entry<K, V> e = index.get(key);
+        if (e == null) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        recordAccess(e);
+
+        return e.value;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, evicting entries if the cache is over capacity.
+     * Returns the previous value mapped to {@code key}.
+     * 
+     * @param key key to map
+     * @param value value to map {@code key} to
+     * @return the previous value mapped to {@code key} or null if there was none
+     * @throws IllegalArgumentException if the weigher returns a negative weight
+     */
+    public V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+
+        int w = weigher.applyAsInt(key, value);
+        if (w < 0) {
+            throw new IllegalArgumentException("Illegal weight: " + w);
+        }
+
+        V retVal = null;
+        Entry<K, V> e = index.get(key);
+        if (e != null) {
+            retVal = e.value;
+            weight += w - e.weight;
+            e.value = value;
+            e.weight = w;
+            recordAccess(e);
+        } else {
+            // make room first so a new entry is never chosen as its own victim
+            evict(w);
+
+            e = newEntry(key, value, w);
+            index.put(key, e);
+            weight += w;
+            recordInsert(e);
+        }
+
+        evict(0);
+
+        return retVal;
+    }
+
+    /**
+     * Removes the mapping for {@code key}. Does not count as an eviction.
+     * 
+     * @param key key to remove
+     * @return the value previously mapped to {@code key} or null if there was none
+     */
+    public V remove(K key) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+
+        Entry<K, V> e = index.remove(key);
+        if (e == null) {
+            return null;
+        }
+
+        recordRemoval(e);
+        weight -= e.weight;
+
+        return e.value;
+    }
+
+    /**
+     * Returns true if {@code key} is mapped to a value. Does not count as a use of the entry.
+     * 
+     * @param key key to look up
+     * @return true if {@code key} is mapped to a value
+     * @throws NullPointerException if {@code key} is null
+     */
+    public boolean containsKey(K key) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+
+        return index.containsKey(key);
+    }
+
+    /**
+     * Removes all entries. Does not count as evictions.
+     */
+    public void clear() {
+        for (Entry<K, V> e : index.values()) {
+            recordRemoval(e);
+        }
+
+        index.clear();
+        weight = 0;
+    }
+
+    /**
+     * Returns the number of entries in this cache.
+     * 
+     * @return the number of entries in this cache
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns true if this cache contains no entries.
+     * 
+     * @return true if this cache contains no entries
+     */
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    /**
+     * Returns the total weight of all entries. Equal to {@link #size()} if no weigher was given.
+     * 
+     * @return the total weight of all entries
+     */
+    public long weight() {
+        return weight;
+    }
+
+    /**
+     * Returns the maximum total weight of all entries.
+     * 
+     * @return the maximum total weight of all entries
+     */
+    public long maxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters.
+     * 
+     * @return the current counters
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits, misses, evictions);
+    }
+
+    /**
+     * Evicts entries chosen by {@link #victim()} until the total weight plus
+     * {@code reserve} is within capacity.
+     * 
+     * @param reserve weight to make room for
+     */
+    private void evict(long reserve) {
+        while (weight + reserve > maxWeight && !index.isEmpty()) {
+            Entry<K, V> e = victim();
+            index.remove(e.key);
+            recordRemoval(e);
+            weight -= e.weight;
+            evictions++;
+
+            if (evictionListener != null) {
+                evictionListener.accept(e.key, e.value);
+            }
+        }
+    }
+
+    /**
+     * Creates the entry for a new mapping.
+     * 
+     * @param key key of the entry
+     * @param value value of the entry
+     * @param weight weight of the entry
+     * @return the new entry
+     */
+    abstract Entry<K, V> newEntry(K key, V value, int weight);
+
+    /**
+     * Called after a new entry has been added to the index.
+     * 
+     * @param e entry that was added
+     */
+    abstract void recordInsert(Entry<K, V> e);
+
+    /**
+     * Called after an entry has been read or overwritten.
+     * 
+     * @param e entry that was used
+     */
+    abstract void recordAccess(Entry<K, V> e);
+
+    /**
+     * Called after an entry has been removed from the index.
+     * 
+     * @param e entry that was removed
+     */
+    abstract void recordRemoval(Entry<K, V> e);
+
+    /**
+     * Returns the entry that should be evicted next. Only called when the cache is not empty.
+     * 
+     * @return the next entry to evict
+     */
+    abstract Entry<K, V> victim();
+}
@@ -0,0 +1,87 @@
+package project.learnds.cache;
+
+/**
+ * Immutable snapshot of a cache's hit, miss and eviction counters.
+ */
+public final class CacheStats {
+
+    /**
+     * Number of lookups that found a value.
+     */
+    private final long hits;
+
+    /**
+     * Number of lookups that found no value.
+     */
+    private final long misses;
+
+    /**
+     * Number of entries removed to stay within capacity.
+     */
+    private final long evictions;
+
+    /**
+     * Constructor using the specified counters.
+     * 
+     * @param hits number of lookups that found a value
+     * @param misses number of lookups that found no value
+     * @param evictions number of entries removed to stay within capacity
+     */
+    public CacheStats(long hits, long misses, long evictions) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    /**
+     * Returns the number of lookups that found a value.
+     * 
+     * @return the number of hits
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that found no value.
+     * 
+     * @return the number of misses
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries removed to stay within capacity.
+     * 
+     * @return the number of evictions
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the ratio of hits to lookups, or 1.0 if there have been no lookups.
+     * 
+     * @return the hit rate
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 1.0 : (double) hits / lookups;
+    }
+
+    /**
+     * Returns the sum of these counters and {@code other}.
+     * 
+     * @param other counters to add
+     * @return the combined counters
+     */
+    public CacheStats plus(CacheStats other) {
+        return new CacheStats(hits + other.hits, misses + other.misses, evictions + other.evictions);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats[hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "]";
+    }
+}
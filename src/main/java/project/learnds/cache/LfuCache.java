@@ -0,0 +1,156 @@
+package project.learnds.cache;
+
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
+import project.learnds.linkedlist.DoublyLinkedList;
+
+/**
+ * Least frequently used cache. Entries are grouped into buckets by use count and
+ * the buckets are kept in a {@link DoublyLinkedList} in increasing order of use count,
+ * so moving an entry to the next count and finding the victim are both O(1).
+ * Ties are broken by evicting the least recently used entry in the lowest bucket.
+ */
+public class LfuCache<K, V> extends AbstractCache<K, V> {
+
+    /**
+     * Class that represents all entries with the same use count.
+     */
+    private static class Bucket<K, V> {
+
+        /**
+         * Use count shared by all entries in this bucket.
+         */
+        final long frequency;
+
+        /**
+         * Entries in this bucket, from least to most recently used.
+         */
+        final DoublyLinkedList<Entry<K, V>> entries = new DoublyLinkedList<>();
+
+        /**
+         * Default constructor using the specified {@code frequency}.
+         * 
+         * @param frequency use count of this bucket
+         */
+        Bucket(long frequency) {
+            this.frequency = frequency;
+        }
+    }
+
+    /**
+     * Entry that also knows which bucket it belongs to.
+     */
+    private static class LfuEntry<K, V> extends Entry<K, V> {
+
+        /**
+         * Node of the bucket holding this entry.
+         */
+        DoublyLinkedList.Node<Bucket<K, V>> bucket;
+
+        /**
+         * Default constructor using the specified {@code key}, {@code value} and {@code weight}.
+         * 
+         * @param key key of this entry
+         * @param value value of this entry
+         * @param weight weight of this entry
+         */
+        LfuEntry(K key, V value, int weight) {
+            super(key, value, weight);
+        }
+    }
+
+    /**
+     * Buckets in increasing order of use count. Empty buckets are removed.
+     */
+    private final DoublyLinkedList<Bucket<K, V>> buckets = new DoublyLinkedList<>();
+
+    /**
+     * Constructor for a cache holding at most {@code maxSize} entries.
+     * 
+     * @param maxSize maximum number of entries
+     */
+    public LfuCache(int maxSize) {
+        this(maxSize, (k, v) -> 1, null);
+    }
+
+    /**
+     * Constructor for a cache whose entries' total weight is at most {@code maxWeight}.
+     * 
+     * @param maxWeight maximum total weight of all entries
+     * @param weigher computes the weight of an entry
+     * @param evictionListener called with every evicted entry, may be null
+     */
+    public LfuCache(long maxWeight, ToIntBiFunction<? super K, ? super V> weigher,
+            BiConsumer<? super K, ? super V> evictionListener) {
+        super(maxWeight, weigher, evictionListener);
+    }
+
+    @Override
+    Entry<K, V> newEntry(K key, V value, int weight) {
+        return new LfuEntry<>(key, value, weight);
+    }
+
+    @Override
+    void recordInsert(Entry<K, V> e) {
+        DoublyLinkedList.Node<Bucket<K, V>> first = buckets.firstNode();
+        if (first == null || first.getItem().frequency != 1) {
+            first = buckets.addNodeFirst(new Bucket<>(1));
+        }
+
+        moveTo((LfuEntry<K, V>) e, first);
+    }
+
+    @Override
+    void recordAccess(Entry<K, V> e) {
+        LfuEntry<K, V> entry = (LfuEntry<K, V>) e;
+        DoublyLinkedList.Node<Bucket<K, V>> curr = entry.bucket;
+        DoublyLinkedList.Node<Bucket<K, V>> next = buckets.nextNode(curr);
+
+        long frequency = curr.getItem().frequency + 1;
+        if (next == null || next.getItem().frequency != frequency) {
+            next = buckets.addNodeAfter(curr, new Bucket<>(frequency));
+        }
+
+        detach(entry);
+        moveTo(entry, next);
+    }
+
+    @Override
+    void recordRemoval(Entry<K, V> e) {
+        LfuEntry<K, V> entry = (LfuEntry<K, V>) e;
+        detach(entry);
+        entry.bucket = null;
+    }
+
+    @Override
+    Entry<K, V> victim() {
+        return buckets.firstNode().getItem().entries.firstNode().getItem();
+    }
+
+    /**
+     * Appends {@code e} to the entries of {@code bucket}.
+     * 
+     * @param e entry to move
+     * @param bucket node of the bucket to move {@code e} into
+     */
+    private void moveTo(LfuEntry<K, V> e, DoublyLinkedList.Node<Bucket<K, V>> bucket) {
+        e.bucket = bucket;
+        e.node = bucket.getItem().entries.addNode(e);
+    }
+
+    /**
+     * Unlinks {@code e} from its bucket, removing the bucket if it becomes empty.
+     * 
+     * @param e entry to unlink
+     */
+    private void detach(LfuEntry<K, V> e) {
+        Bucket<K, V> bucket = e.bucket.getItem();
+        bucket.entries.unlink(e.node);
+        e.node = null;
+
+        if (bucket.entries.isEmpty()) {
+            buckets.unlink(e.bucket);
+        }
+    }
+}
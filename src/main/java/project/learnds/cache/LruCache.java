@@ -0,0 +1,66 @@
+package project.learnds.cache;
+
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
+import project.learnds.linkedlist.DoublyLinkedList;
+
+/**
+ * Least recently used cache. Entries are kept in a {@link DoublyLinkedList} from
+ * least to most recently used; a used entry's node is moved to the end and the
+ * first node is evicted.
+ */
+public class LruCache<K, V> extends AbstractCache<K, V> {
+
+    /**
+     * Entries from least to most recently used.
+     */
+    private final DoublyLinkedList<Entry<K, V>> order = new DoublyLinkedList<>();
+
+    /**
+     * Constructor for a cache holding at most {@code maxSize} entries.
+     * 
+     * @param maxSize maximum number of entries
+     */
+    public LruCache(int maxSize) {
+        this(maxSize, (k, v) -> 1, null);
+    }
+
+    /**
+     * Constructor for a cache whose entries' total weight is at most {@code maxWeight}.
+     * 
+     * @param maxWeight maximum total weight of all entries
+     * @param weigher computes the weight of an entry
+     * @param evictionListener called with every evicted entry, may be null
+     */
+    public LruCache(long maxWeight, ToIntBiFunction<? super K, ? super V> weigher,
+            BiConsumer<? super K, ? super V> evictionListener) {
+        super(maxWeight, weigher, evictionListener);
+    }
+
+    @Override
+    Entry<K, V> newEntry(K key, V value, int weight) {
+        return new Entry<>(key, value, weight);
+    }
+
+    @Override
+    void recordInsert(Entry<K, V> e) {
+        e.node = order.addNode(e);
+    }
+
+    @Override
+    void recordAccess(Entry<K, V> e) {
+        order.moveToEnd(e.node);
+    }
+
+    @Override
+    void recordRemoval(Entry<K, V> e) {
+        order.unlink(e.node);
+        e.node = null;
+    }
+
+    @Override
+    Entry<K, V> victim() {
+        return order.firstNode().getItem();
+    }
+}
@@ -0,0 +1,142 @@
+package project.learnds.cache;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread safe cache made of independent segments, each guarded by its own lock.
+ * A key always maps to the same segment, so threads working on keys in different
+ * segments do not contend. Eviction is per segment, so each segment is bounded
+ * by the capacity it was created with.
+ */
+public class SegmentedCache<K, V> {
+
+    /**
+     * Segments of this cache. Length is a power of two.
+     */
+    private final AbstractCache<K, V>[] segments;
+
+    /**
+     * Constructor that creates at least {@code concurrencyLevel} segments using {@code segmentFactory}.
+     * The number of segments is rounded up to a power of two.
+     * 
+     * @param concurrencyLevel minimum number of segments
+     * @param segmentFactory creates an empty segment, such as {@code () -> new LruCache<>(1024)}
+     * @throws IllegalArgumentException if {@code concurrencyLevel} is less than 1 or greater than 2^16
+     */
+    @SuppressWarnings("unchecked")
+    public SegmentedCache(int concurrencyLevel, Supplier<? extends AbstractCache<K, V>> segmentFactory) {
+        if (concurrencyLevel < 1 || concurrencyLevel > (1 << 16)) {
+            throw new IllegalArgumentException("Illegal concurrency level: " + concurrencyLevel);
+        }
+
+        int n = concurrencyLevel == 1 ? 1 : Integer.highestOneBit(concurrencyLevel - 1) << 1;
+        segments = (AbstractCache<K, V>[]) new AbstractCache<?, ?>[n];
+        for (int i = 0; i < n; i++) {
+            segments[i] = segmentFactory.get();
+        }
+    }
+
+    /**
+     * Returns the value mapped to {@code key} or null if there is none.
+     * 
+     * @param key key to look up
+     * @return the value mapped to {@code key} or null if there is none
+     * @see AbstractCache#get(Object)
+     */
+    public V get(K key) {
+        AbstractCache<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, evicting entries from its segment if it is over capacity.
+     * 
+     * @param key key to map
+     * @param value value to map {@code key} to
+     * @return the previous value mapped to {@code key} or null if there was none
+     * @see AbstractCache#put(Object, Object)
+     */
+    public V put(K key, V value) {
+        AbstractCache<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.put(key, value);
+        }
+    }
+
+    /**
+     * Removes the mapping for {@code key}.
+     * 
+     * @param key key to remove
+     * @return the value previously mapped to {@code key} or null if there was none
+     */
+    public V remove(K key) {
+        AbstractCache<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.remove(key);
+        }
+    }
+
+    /**
+     * Returns true if {@code key} is mapped to a value.
+     * 
+     * @param key key to look up
+     * @return true if {@code key} is mapped to a value
+     */
+    public boolean containsKey(K key) {
+        AbstractCache<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.containsKey(key);
+        }
+    }
+
+    /**
+     * Returns the number of entries in this cache. Only a snapshot if other threads are writing.
+     * 
+     * @return the number of entries in this cache
+     */
+    public int size() {
+        int size = 0;
+        for (AbstractCache<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns the sum of the counters of all segments.
+     * 
+     * @return the combined counters
+     */
+    public CacheStats stats() {
+        CacheStats stats = new CacheStats(0, 0, 0);
+        for (AbstractCache<K, V> segment : segments) {
+            synchronized (segment) {
+                stats = stats.plus(segment.stats());
+            }
+        }
+
+        return stats;
+    }
+
+    /**
+     * Returns the segment {@code key} maps to.
+     * 
+     * @param key key to map
+     * @return the segment for {@code key}
+     */
+    private AbstractCache<K, V> segmentFor(K key) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+
+        int h = key.hashCode();
+        h ^= h >>> 16;
+
+        return segments[h & (segments.length - 1)];
+    }
+}
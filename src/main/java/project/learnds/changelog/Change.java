@@ -0,0 +1,103 @@
+package project.learnds.changelog;
+
+import java.util.Arrays;
+
+/**
+ * A single change, or a run of adjacent changes of the same type, read from a {@link ChangeLog}.
+ * Applying the changes of a log in order to a copy of the collection reproduces the collection.
+ */
+public final class Change<E> {
+
+    /**
+     * Kinds of change.
+     */
+    public enum Type {
+
+        /**
+         * Elements were inserted starting at {@code index}.
+         */
+        ADD,
+
+        /**
+         * Elements were removed starting at {@code index}. {@link Change#get(int)} returns the removed elements.
+         */
+        REMOVE,
+
+        /**
+         * Elements starting at {@code index} were replaced. {@link Change#get(int)} returns the new elements.
+         */
+        SET
+    }
+
+    /**
+     * Kind of this change.
+     */
+    private final Type type;
+
+    /**
+     * Index of the first element affected.
+     */
+    private final int index;
+
+    /**
+     * Elements added, removed or set, in order.
+     */
+    private final Object[] elements;
+
+    /**
+     * Default constructor using the specified {@code type}, {@code index} and {@code elements}.
+     * 
+     * @param type kind of change
+     * @param index index of the first element affected
+     * @param elements elements added, removed or set
+     */
+    Change(Type type, int index, Object[] elements) {
+        this.type = type;
+        this.index = index;
+        this.elements = elements;
+    }
+
+    /**
+     * Returns the kind of this change.
+     * 
+     * @return the kind of this change
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Returns the index of the first element affected.
+     * 
+     * @return the index of the first element affected
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Returns the number of elements affected.
+     * 
+     * @return the number of elements affected
+     */
+    public int count() {
+        return elements.length;
+    }
+
+    /**
+     * Returns the {@code i}th element added, removed or set by this change.
+     * 
+     * @param i position within this change
+     * @return the element
+     * @throws ArrayIndexOutOfBoundsException if {@code i} is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int i) {
+        return (E) elements[i];
+    }
+
+    @Override
+    public String toString() {
+        return type + "@" + index + Arrays.toString(elements);
+    }
+}
@@ -0,0 +1,218 @@
+package project.learnds.changelog;
+
+import java.util.function.Consumer;
+
+import project.learnds.memory.MemoryLayout;
+import project.learnds.memory.MemorySized;
+
+/**
+ * Fixed-size ring of change records written by a collection on every add, remove and set.
+ * Subscribers read the ring through their own {@link Cursor}. When a cursor falls more than
+ * {@link #capacity()} records behind, the records it missed are overwritten and it must resync.
+ * Not thread safe; the collection and its subscribers must be used from one thread
+ * or synchronized externally.
+ */
+public class ChangeLog<E> implements MemorySized {
+
+    /**
+     * Type of each record.
+     */
+    private final Change.Type[] types;
+
+    /**
+     * Index of each record.
+     */
+    private final int[] indexes;
+
+    /**
+     * Element of each record.
+     */
+    private final Object[] elements;
+
+    /**
+     * {@code capacity - 1}. Maps a sequence number to a slot.
+     */
+    private final int mask;
+
+    /**
+     * Sequence number of the next record to be written.
+     */
+    private long head;
+
+    /**
+     * Constructor that uses {@code capacity} rounded up to a power of two.
+     * 
+     * @param capacity minimum number of records kept
+     * @throws IllegalArgumentException if {@code capacity} is less than 1 or greater than 2^30
+     */
+    public ChangeLog(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+
+        int actual = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        types = new Change.Type[actual];
+        indexes = new int[actual];
+        elements = new Object[actual];
+        mask = actual - 1;
+    }
+
+    /**
+     * Appends a record. Called by the collection that owns this log.
+     * 
+     * @param type kind of change
+     * @param index index of the element affected
+     * @param e element added, removed or set
+     */
+    public void record(Change.Type type, int index, E e) {
+        int slot = (int) head & mask;
+        types[slot] = type;
+        indexes[slot] = index;
+        elements[slot] = e;
+        head++;
+    }
+
+    /**
+     * Returns a cursor positioned after the newest record, so it only sees later changes.
+     * 
+     * @return a new cursor
+     */
+    public Cursor subscribe() {
+        return new Cursor(head);
+    }
+
+    /**
+     * Returns the maximum number of records kept.
+     * 
+     * @return capacity of this log
+     */
+    public int capacity() {
+        return types.length;
+    }
+
+    /**
+     * Returns the total number of records written.
+     * 
+     * @return the sequence number of the next record
+     */
+    public long position() {
+        return head;
+    }
+
+    /**
+     * Returns the estimated number of bytes used by this log's structure, not counting its elements.
+     * 
+     * @return estimated structural size in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return MemoryLayout.shallowSizeOf(getClass())
+                + 2 * MemoryLayout.referenceArraySize(types.length)
+                + MemoryLayout.intArraySize(indexes.length);
+    }
+
+    /**
+     * Returns the estimated number of bytes allocated for records that have not been written yet.
+     * 
+     * @return estimated unused bytes
+     */
+    @Override
+    public long capacitySlack() {
+        long unused = Math.max(0, types.length - head);
+
+        return unused * (2 * MemoryLayout.REFERENCE_SIZE + 4);
+    }
+
+    /**
+     * A subscriber's read position in the log.
+     */
+    public class Cursor {
+
+        /**
+         * Sequence number of the next record to read.
+         */
+        private long position;
+
+        /**
+         * Constructor starting at {@code position}.
+         * 
+         * @param position sequence number of the first record to read
+         */
+        Cursor(long position) {
+            this.position = position;
+        }
+
+        /**
+         * Returns true if there are records this cursor has not read.
+         * 
+         * @return true if there are unread records
+         */
+        public boolean hasNext() {
+            return position < head;
+        }
+
+        /**
+         * Returns true if records this cursor has not read were overwritten.
+         * 
+         * @return true if this cursor must {@link #resync()}
+         */
+        public boolean isOverrun() {
+            return head - position > types.length;
+        }
+
+        /**
+         * Skips every unread record. Call after copying the whole collection once the cursor is overrun.
+         */
+        public void resync() {
+            position = head;
+        }
+
+        /**
+         * Reads up to {@code limit} records and passes them to {@code consumer} as changes.
+         * Adjacent records are coalesced: adds or sets at consecutive indexes and
+         * removes at the same index become one change covering the whole run.
+         * 
+         * @param consumer receives each change
+         * @param limit maximum number of records to read
+         * @return number of records read
+         * @throws IllegalStateException if this cursor is overrun
+         */
+        public int drain(Consumer<? super Change<E>> consumer, int limit) {
+            if (isOverrun()) {
+                throw new IllegalStateException("Cursor fell behind by more than " + types.length + " records");
+            }
+
+            int n = (int) Math.max(0, Math.min(limit, head - position));
+            int i = 0;
+            try {
+                while (i < n) {
+                    int slot = (int) (position + i) & mask;
+                    Change.Type type = types[slot];
+                    int start = indexes[slot];
+
+                    int run = 1;
+                    while (i + run < n) {
+                        int next = (int) (position + i + run) & mask;
+                        int expected = type == Change.Type.REMOVE ? start : start + run;
+                        if (types[next] != type || indexes[next] != expected) {
+                            break;
+                        }
+                        run++;
+                    }
+
+                    Object[] es = new Object[run];
+                    for (int j = 0; j < run; j++) {
+                        es[j] = elements[(int) (position + i + j) & mask];
+                    }
+
+                    i += run;
+                    consumer.accept(new Change<>(type, start, es));
+                }
+            } finally {
+                position += i;
+            }
+
+            return n;
+        }
+    }
+}
@@ -1,17 +1,31 @@
 package project.learnds.linkedlist;
 
+import java.lang.reflect.Array;
+import java.util.AbstractSequentialList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import project.learnds.changelog.Change;
+import project.learnds.changelog.ChangeLog;
+import project.learnds.memory.MemoryLayout;
+import project.learnds.memory.MemorySized;
 
 /**
  * Class representing a doubly linked list. Allows for null values.
+ * When a change log is enabled, the node handle methods other than {@link #addNode(Object)}
+ * and {@link #addNodeFirst(Object)} walk the list to find the node's index, so they become O(n).
  */
-public class DoublyLinkedList<E> implements Iterable<E> {
+public class DoublyLinkedList<E> implements Iterable<E>, MemorySized {
     
     /**
      * Class that represents information with a single element in a doubly linked list.
+     * Returned as a handle by {@link #addNode(Object)} so the node can later be
+     * unlinked or moved without searching the list.
      */
-    private class Node<T> {
+    public static class Node<T> {
 
         /**
          * Data for this node.
@@ -28,15 +42,29 @@ public class DoublyLinkedList<E> implements Iterable<E> {
          */
         Node<T> prev;
 
+        /**
+         * List this node is linked into, or null if it is unlinked or a dummy node.
+         */
+        DoublyLinkedList<T> owner;
+
         /**
          * Default constructor using specified {@code item}. Sets {@code next} and {@code prev} pointers to null.
          * @param item
          */
-        public Node(T item) {
+        Node(T item) {
             this.item = item;
             next = null;
             prev = null;
         }
+
+        /**
+         * Returns the data for this node.
+         * 
+         * @return data for this node
+         */
+        public T getItem() {
+            return item;
+        }
     }
 
     /**
@@ -56,6 +84,11 @@ public class DoublyLinkedList<E> implements Iterable<E> {
      */
     private int size;
 
+    /**
+     * Log of changes made to this list. Null unless enabled.
+     */
+    private ChangeLog<E> changeLog;
+
     /**
      * Sole constructor.
      */
@@ -66,6 +99,45 @@ public class DoublyLinkedList<E> implements Iterable<E> {
         dtail.prev = dhead;
     }
 
+    /**
+     * Constructor that copies the elements of {@code source} in iteration order.
+     * 
+     * @param source elements to be copied into this list
+     */
+    public DoublyLinkedList(Iterable<? extends E> source) {
+        this();
+        addAll(source);
+    }
+
+    /**
+     * Returns a new list holding {@code elements}.
+     * 
+     * @param <E> type of the elements
+     * @param elements elements of the new list
+     * @return new list holding {@code elements}
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E> DoublyLinkedList<E> of(E... elements) {
+        return from(elements);
+    }
+
+    /**
+     * Returns a new list holding the elements of {@code array}, in order.
+     * 
+     * @param <E> type of the elements
+     * @param array elements of the new list
+     * @return new list holding the elements of {@code array}
+     */
+    public static <E> DoublyLinkedList<E> from(E[] array) {
+        DoublyLinkedList<E> retVal = new DoublyLinkedList<>();
+        for (E e : array) {
+            retVal.add(e);
+        }
+
+        return retVal;
+    }
+
     /**
      * Appends the specified element {@code e} to the end of the list.
      * 
@@ -73,15 +145,184 @@ public class DoublyLinkedList<E> implements Iterable<E> {
      * @return true
      */
     public boolean add(E e) {
-        Node<E> newNode = new Node<>(e);
-        dtail.prev.next = newNode;
-        newNode.prev = dtail.prev;
-        newNode.next = dtail;
-        dtail.prev = newNode;
+        addNode(e);
+
+        return true;
+    }
+
+    /**
+     * Appends the specified element {@code e} to the end of the list and returns its node.
+     * 
+     * @param e element to be appended to this list
+     * @return node holding {@code e}
+     */
+    public Node<E> addNode(E e) {
+        return linkAfter(dtail.prev, new Node<>(e), size);
+    }
+
+    /**
+     * Inserts the specified element {@code e} at the front of the list and returns its node.
+     * 
+     * @param e element to be inserted
+     * @return node holding {@code e}
+     */
+    public Node<E> addNodeFirst(E e) {
+        return linkAfter(dhead, new Node<>(e), 0);
+    }
+
+    /**
+     * Inserts the specified element {@code e} directly after {@code node} and returns its node.
+     * 
+     * @param node node of this list to insert after
+     * @param e element to be inserted
+     * @return node holding {@code e}
+     * @throws IllegalStateException if {@code node} has been unlinked
+     * @throws IllegalArgumentException if {@code node} belongs to another list
+     */
+    public Node<E> addNodeAfter(Node<E> node, E e) {
+        checkLinked(node);
+
+        int index = changeLog != null ? indexOfNode(node) + 1 : -1;
+
+        return linkAfter(node, new Node<>(e), index);
+    }
+
+    /**
+     * Returns the first node of this list or null if this list is empty.
+     * 
+     * @return the first node or null if this list is empty
+     */
+    public Node<E> firstNode() {
+        return dhead.next == dtail ? null : dhead.next;
+    }
+
+    /**
+     * Returns the last node of this list or null if this list is empty.
+     * 
+     * @return the last node or null if this list is empty
+     */
+    public Node<E> lastNode() {
+        return dtail.prev == dhead ? null : dtail.prev;
+    }
+
+    /**
+     * Returns the node after {@code node} or null if {@code node} is the last node.
+     * 
+     * @param node node of this list
+     * @return the next node or null if {@code node} is the last node
+     * @throws IllegalStateException if {@code node} has been unlinked
+     * @throws IllegalArgumentException if {@code node} belongs to another list
+     */
+    public Node<E> nextNode(Node<E> node) {
+        checkLinked(node);
+
+        return node.next == dtail ? null : node.next;
+    }
+
+    /**
+     * Removes {@code node} from this list in constant time.
+     * Returns the element that was removed.
+     * 
+     * @param node node of this list to remove
+     * @return the element held by {@code node}
+     * @throws IllegalStateException if {@code node} has already been unlinked
+     * @throws IllegalArgumentException if {@code node} belongs to another list
+     */
+    public E unlink(Node<E> node) {
+        checkLinked(node);
+
+        return unlink(node, changeLog != null ? indexOfNode(node) : -1);
+    }
+
+    /**
+     * Removes {@code node}, which is at position {@code index}, from this list.
+     * 
+     * @param node node to remove
+     * @param index position of {@code node}, only used for the change log
+     * @return the element held by {@code node}
+     */
+    private E unlink(Node<E> node, int index) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+
+        node.next = null;
+        node.prev = null;
+        node.owner = null;
+
+        size--;
+
+        if (changeLog != null) {
+            changeLog.record(Change.Type.REMOVE, index, node.item);
+        }
+
+        return node.item;
+    }
+
+    /**
+     * Moves {@code node} to the end of this list in constant time.
+     * 
+     * @param node node of this list to move
+     * @throws IllegalStateException if {@code node} has been unlinked
+     * @throws IllegalArgumentException if {@code node} belongs to another list
+     */
+    public void moveToEnd(Node<E> node) {
+        checkLinked(node);
+
+        if (node.next == dtail) {
+            return;
+        }
+
+        if (changeLog != null) {
+            changeLog.record(Change.Type.REMOVE, indexOfNode(node), node.item);
+            changeLog.record(Change.Type.ADD, size - 1, node.item);
+        }
+
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+
+        node.prev = dtail.prev;
+        node.next = dtail;
+        dtail.prev.next = node;
+        dtail.prev = node;
+    }
+
+    /**
+     * Links {@code newNode} directly after {@code node}, making it the element at position {@code index}.
+     * 
+     * @param node node to link after
+     * @param newNode node to link
+     * @param index position of {@code newNode}, only used for the change log
+     * @return {@code newNode}
+     */
+    private Node<E> linkAfter(Node<E> node, Node<E> newNode, int index) {
+        newNode.prev = node;
+        newNode.next = node.next;
+        node.next.prev = newNode;
+        node.next = newNode;
+        newNode.owner = this;
 
         size++;
 
-        return true;
+        if (changeLog != null) {
+            changeLog.record(Change.Type.ADD, index, newNode.item);
+        }
+
+        return newNode;
+    }
+
+    /**
+     * Returns the position of {@code node} by walking the list from the head.
+     * 
+     * @param node node of this list
+     * @return the position of {@code node}
+     */
+    private int indexOfNode(Node<E> node) {
+        int index = 0;
+        for (Node<E> curr = dhead.next; curr != node; curr = curr.next) {
+            index++;
+        }
+
+        return index;
     }
 
     /**
@@ -106,6 +347,36 @@ public class DoublyLinkedList<E> implements Iterable<E> {
         return curr.item;        
     }
 
+    /**
+     * Replaces the element at position {@code index} with {@code e}.
+     * Returns the element that was replaced.
+     * 
+     * @param index index of the element to replace
+     * @param e element to be stored at position {@code index}
+     * @return the element previously at position {@code index}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    public E set(int index, E e) {
+        checkBounds(index);
+
+        Node<E> curr = dtail.prev;
+        if (index != (size - 1)) {
+            curr = dhead.next;
+            for (int i = 0; i < index; i++) {
+                curr = curr.next;
+            }
+        }
+
+        E retVal = curr.item;
+        curr.item = e;
+
+        if (changeLog != null) {
+            changeLog.record(Change.Type.SET, index, e);
+        }
+
+        return retVal;
+    }
+
     /**
      * Returns the index of the first occurrence of {@code e} or -1 if this list doesn't contain it.
      * 
@@ -145,15 +416,7 @@ public class DoublyLinkedList<E> implements Iterable<E> {
             curr = curr.next;
         }
 
-        curr.prev.next = curr.next;
-        curr.next.prev = curr.prev;
-
-        curr.next = null;
-        curr.prev = null;
-
-        size--;
-
-        return curr.item;
+        return unlink(curr, index);
     }
 
     @Override
@@ -187,6 +450,68 @@ public class DoublyLinkedList<E> implements Iterable<E> {
         return sb.toString();
     }
 
+    /**
+     * Appends every element of {@code source} to the end of the list, in iteration order.
+     * 
+     * @param source elements to be appended to this list
+     * @return true if this list changed
+     */
+    public boolean addAll(Iterable<? extends E> source) {
+        int before = size;
+        for (E e : source) {
+            add(e);
+        }
+
+        return size > before;
+    }
+
+    /**
+     * Returns a new array holding every element of this list, in order.
+     * The array is sized once from {@link #size()}.
+     * 
+     * @return new array holding every element
+     */
+    public Object[] toArray() {
+        Object[] retVal = new Object[size];
+        fill(retVal);
+
+        return retVal;
+    }
+
+    /**
+     * Returns every element of this list, in order, in {@code a} if it is large enough
+     * or otherwise in a new array of the same runtime type. Like {@link java.util.Collection#toArray(Object[])},
+     * the slot after the last element is set to null when {@code a} is larger than this list.
+     * 
+     * @param <T> component type of the array
+     * @param a array to fill, if it is large enough
+     * @return array holding every element
+     * @throws ArrayStoreException if an element is not an instance of {@code a}'s component type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        T[] retVal = a.length >= size ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), size);
+        fill(retVal);
+        if (retVal.length > size) {
+            retVal[size] = null;
+        }
+
+        return retVal;
+    }
+
+    /**
+     * Returns a {@link List} view of this list. The view is backed by this list, so
+     * no elements are copied and changes to either are visible in both. Supports
+     * every optional {@link List} operation. Positional access walks the list from the
+     * nearer end, while iteration, searching, equality and hashing walk the nodes once,
+     * and the view's list iterator adds, sets and removes in constant time.
+     * 
+     * @return a list view of this list
+     */
+    public List<E> asList() {
+        return new ListView();
+    }
+
     /**
      * Returns the number of elements in this list.
      * 
@@ -205,6 +530,117 @@ public class DoublyLinkedList<E> implements Iterable<E> {
         return size <= 0;
     }
 
+    /**
+     * Returns the estimated number of bytes used by this list's structure, not counting its elements.
+     * 
+     * @return estimated structural size in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        // every element has its own node, plus the dummy head and tail
+        long bytes = MemoryLayout.shallowSizeOf(getClass()) + (size + 2) * MemoryLayout.shallowSizeOf(Node.class);
+        if (changeLog != null) {
+            bytes += changeLog.memoryFootprint();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes allocated for unused capacity. Nodes are only
+     * allocated for elements, so this is 0 unless a change log is enabled.
+     * 
+     * @return estimated unused bytes
+     */
+    @Override
+    public long capacitySlack() {
+        return changeLog != null ? changeLog.capacitySlack() : 0;
+    }
+
+    /**
+     * Performs {@code action} for each element, in order. Walks the nodes directly
+     * instead of creating an iterator.
+     * 
+     * @param action action to perform
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (Node<E> curr = dhead.next; curr != dtail; curr = curr.next) {
+            action.accept(curr.item);
+        }
+    }
+
+    /**
+     * Performs {@code action} for each element from position {@code from} (inclusive)
+     * to {@code to} (exclusive), in order.
+     * 
+     * @param from index of the first element
+     * @param to index after the last element
+     * @param action action to perform
+     * @throws ArrayIndexOutOfBoundsException if the range is out of bounds
+     */
+    public void forEach(int from, int to, Consumer<? super E> action) {
+        checkRange(from, to);
+
+        Node<E> curr = dhead.next;
+        for (int i = 0; i < from; i++) {
+            curr = curr.next;
+        }
+
+        for (int i = from; i < to; i++) {
+            action.accept(curr.item);
+            curr = curr.next;
+        }
+    }
+
+    /**
+     * Returns a new cursor over this list. Unlike {@link #iterator()}, a cursor can be
+     * rewound with {@link Cursor#reset()} and reused, so polling loops need not allocate.
+     * Reset the cursor after the list is modified.
+     * 
+     * @return a new cursor positioned at the first element
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Starts recording every add, remove and set in a change log keeping the last
+     * {@code capacity} changes. Returns the existing log if one is already enabled.
+     * 
+     * @param capacity minimum number of changes kept
+     * @return the change log of this list
+     */
+    public ChangeLog<E> enableChangeLog(int capacity) {
+        if (changeLog == null) {
+            changeLog = new ChangeLog<>(capacity);
+        }
+
+        return changeLog;
+    }
+
+    /**
+     * Returns the change log of this list or null if it is not enabled.
+     * 
+     * @return the change log of this list or null
+     */
+    public ChangeLog<E> changeLog() {
+        return changeLog;
+    }
+
+    /**
+     * Copies every element of this list, in order, into the start of {@code dest}.
+     * 
+     * @param dest array at least {@link #size()} long
+     */
+    private void fill(Object[] dest) {
+        Node<E> curr = dhead.next;
+        for (int i = 0; i < size; i++) {
+            dest[i] = curr.item;
+            curr = curr.next;
+        }
+    }
+
     /**
      * Checks if {@code index} is out of range.
      * 
@@ -217,6 +653,35 @@ public class DoublyLinkedList<E> implements Iterable<E> {
         }
     }
 
+    /**
+     * Checks that {@code node} is linked into this list.
+     * 
+     * @param node node to check
+     * @throws IllegalStateException if {@code node} has been unlinked or is a dummy node
+     * @throws IllegalArgumentException if {@code node} is linked into another list
+     */
+    private void checkLinked(Node<E> node) {
+        if (node.owner == null) {
+            throw new IllegalStateException("Node is not linked");
+        }
+        if (node.owner != this) {
+            throw new IllegalArgumentException("Node belongs to another list");
+        }
+    }
+
+    /**
+     * Checks if the range from {@code from} (inclusive) to {@code to} (exclusive) is out of bounds.
+     * 
+     * @param from index of the first element
+     * @param to index after the last element
+     * @throws ArrayIndexOutOfBoundsException if the range is out of bounds
+     */
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+    }
+
     @Override
     public Iterator<E> iterator() {
         return new Iterator<E>() {
@@ -240,4 +705,203 @@ public class DoublyLinkedList<E> implements Iterable<E> {
             }
         };
     }
+
+    /**
+     * Reusable iterator over this list.
+     */
+    public class Cursor implements Iterator<E> {
+
+        /**
+         * Node holding the next element.
+         */
+        private Node<E> curr = dhead.next;
+
+        /**
+         * Moves this cursor back to the first element.
+         */
+        public void reset() {
+            curr = dhead.next;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return curr != dtail;
+        }
+
+        @Override
+        public E next() {
+            if (curr == dtail) {
+                throw new NoSuchElementException();
+            }
+
+            E retVal = curr.item;
+            curr = curr.next;
+
+            return retVal;
+        }
+    }
+
+    /**
+     * {@link List} view backed by this list.
+     */
+    private class ListView extends AbstractSequentialList<E> {
+
+        @Override
+        public E get(int index) {
+            return DoublyLinkedList.this.get(index);
+        }
+
+        @Override
+        public boolean add(E e) {
+            modCount++;
+            return DoublyLinkedList.this.add(e);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            return new ViewIterator(index);
+        }
+
+        @Override
+        public Object[] toArray() {
+            return DoublyLinkedList.this.toArray();
+        }
+
+        @Override
+        public <T> T[] toArray(T[] a) {
+            return DoublyLinkedList.this.toArray(a);
+        }
+
+        /**
+         * List iterator that walks the nodes in either direction.
+         */
+        private class ViewIterator implements ListIterator<E> {
+
+            /**
+             * Node returned by {@code next}. The dummy tail at the end.
+             */
+            private Node<E> next;
+
+            /**
+             * Index of the node returned by {@code next}.
+             */
+            private int nextIndex;
+
+            /**
+             * Node returned by the last call to {@code next} or {@code previous}, or null.
+             */
+            private Node<E> lastReturned;
+
+            ViewIterator(int index) {
+                if (index < 0 || index > size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+
+                // start from whichever end is nearer
+                if (index < (size >> 1)) {
+                    next = dhead.next;
+                    for (int i = 0; i < index; i++) {
+                        next = next.next;
+                    }
+                } else {
+                    next = dtail;
+                    for (int i = size; i > index; i--) {
+                        next = next.prev;
+                    }
+                }
+                nextIndex = index;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                lastReturned = next;
+                next = next.next;
+                nextIndex++;
+
+                return lastReturned.item;
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return nextIndex > 0;
+            }
+
+            @Override
+            public E previous() {
+                if (!hasPrevious()) {
+                    throw new NoSuchElementException();
+                }
+
+                next = next.prev;
+                lastReturned = next;
+                nextIndex--;
+
+                return lastReturned.item;
+            }
+
+            @Override
+            public int nextIndex() {
+                return nextIndex;
+            }
+
+            @Override
+            public int previousIndex() {
+                return nextIndex - 1;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+
+                if (next == lastReturned) {
+                    // returned by previous, so the following node becomes next
+                    next = lastReturned.next;
+                } else {
+                    nextIndex--;
+                }
+                unlink(lastReturned, nextIndex);
+
+                lastReturned = null;
+                modCount++;
+            }
+
+            @Override
+            public void set(E e) {
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+
+                lastReturned.item = e;
+
+                if (changeLog != null) {
+                    changeLog.record(Change.Type.SET, next == lastReturned ? nextIndex : nextIndex - 1, e);
+                }
+            }
+
+            @Override
+            public void add(E e) {
+                linkAfter(next.prev, new Node<>(e), nextIndex);
+                nextIndex++;
+
+                lastReturned = null;
+                modCount++;
+            }
+        }
+    }
 }
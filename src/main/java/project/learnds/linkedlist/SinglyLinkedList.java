@@ -1,12 +1,22 @@
 package project.learnds.linkedlist;
 
+import java.lang.reflect.Array;
+import java.util.AbstractSequentialList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import project.learnds.changelog.Change;
+import project.learnds.changelog.ChangeLog;
+import project.learnds.memory.MemoryLayout;
+import project.learnds.memory.MemorySized;
 
 /**
  * Class representing a singly linked list. Allows for null values.
  */
-public class SinglyLinkedList<E> implements Iterable<E> {
+public class SinglyLinkedList<E> implements Iterable<E>, MemorySized {
     
     /**
      * Dummy head node. Eliminates having to check for null values 
@@ -24,6 +34,11 @@ public class SinglyLinkedList<E> implements Iterable<E> {
      */
     private int size;
 
+    /**
+     * Log of changes made to this list. Null unless enabled.
+     */
+    private ChangeLog<E> changeLog;
+
     /**
      * Sole constructor.
      */
@@ -32,6 +47,45 @@ public class SinglyLinkedList<E> implements Iterable<E> {
         tail = dhead;
     }
 
+    /**
+     * Constructor that copies the elements of {@code source} in iteration order.
+     * 
+     * @param source elements to be copied into this list
+     */
+    public SinglyLinkedList(Iterable<? extends E> source) {
+        this();
+        addAll(source);
+    }
+
+    /**
+     * Returns a new list holding {@code elements}.
+     * 
+     * @param <E> type of the elements
+     * @param elements elements of the new list
+     * @return new list holding {@code elements}
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E> SinglyLinkedList<E> of(E... elements) {
+        return from(elements);
+    }
+
+    /**
+     * Returns a new list holding the elements of {@code array}, in order.
+     * 
+     * @param <E> type of the elements
+     * @param array elements of the new list
+     * @return new list holding the elements of {@code array}
+     */
+    public static <E> SinglyLinkedList<E> from(E[] array) {
+        SinglyLinkedList<E> retVal = new SinglyLinkedList<>();
+        for (E e : array) {
+            retVal.add(e);
+        }
+
+        return retVal;
+    }
+
     /**
      * Appends the specified element {@code e} to the end of the list.
      * 
@@ -39,13 +93,35 @@ public class SinglyLinkedList<E> implements Iterable<E> {
      * @return true
      */
     public boolean add(E e) {
+        linkAfter(tail, e, size);
+
+        return true;
+    }
+
+    /**
+     * Links a new node holding {@code e} directly after {@code node}, making it the element at position {@code index}.
+     * 
+     * @param node node to link after
+     * @param e element to be inserted
+     * @param index position of the new node
+     * @return the new node
+     */
+    private Node<E> linkAfter(Node<E> node, E e, int index) {
         Node<E> newNode = new Node<>(e);
-        tail.next = newNode;
-        tail = newNode; 
+        newNode.next = node.next;
+        node.next = newNode;
 
-        size++;       
+        if (node == tail) {
+            tail = newNode;
+        }
 
-        return true;
+        size++;
+
+        if (changeLog != null) {
+            changeLog.record(Change.Type.ADD, index, e);
+        }
+
+        return newNode;
     }
 
     /**
@@ -70,6 +146,36 @@ public class SinglyLinkedList<E> implements Iterable<E> {
         return curr.item;
     }
 
+    /**
+     * Replaces the element at position {@code index} with {@code e}.
+     * Returns the element that was replaced.
+     * 
+     * @param index index of the element to replace
+     * @param e element to be stored at position {@code index}
+     * @return the element previously at position {@code index}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    public E set(int index, E e) {
+        checkBounds(index);
+
+        Node<E> curr = tail;
+        if (index != (size - 1)) {
+            curr = dhead.next;
+            for (int i = 0; i < index; i++) {
+                curr = curr.next;
+            }
+        }
+
+        E retVal = curr.item;
+        curr.item = e;
+
+        if (changeLog != null) {
+            changeLog.record(Change.Type.SET, index, e);
+        }
+
+        return retVal;
+    }
+
     /**
      * Returns the index of the first occurrence of {@code e} or -1 if this list doesn't contain it.
      * 
@@ -108,15 +214,30 @@ public class SinglyLinkedList<E> implements Iterable<E> {
             curr = curr.next;
         }
 
-        Node<E> retVal = curr.next;
-        curr.next = curr.next.next;
+        return unlinkAfter(curr, index);
+    }
+
+    /**
+     * Removes the node directly after {@code prev}, which is the element at position {@code index}.
+     * 
+     * @param prev node before the node to remove
+     * @param index position of the node to remove
+     * @return the element that was removed
+     */
+    private E unlinkAfter(Node<E> prev, int index) {
+        Node<E> retVal = prev.next;
+        prev.next = retVal.next;
 
         if (retVal == tail) {
-            tail = curr;
+            tail = prev;
         }
         
         size--;
 
+        if (changeLog != null) {
+            changeLog.record(Change.Type.REMOVE, index, retVal.item);
+        }
+
         return retVal.item;
     }
 
@@ -151,6 +272,69 @@ public class SinglyLinkedList<E> implements Iterable<E> {
         return sb.toString();
     }
 
+    /**
+     * Appends every element of {@code source} to the end of the list, in iteration order.
+     * 
+     * @param source elements to be appended to this list
+     * @return true if this list changed
+     */
+    public boolean addAll(Iterable<? extends E> source) {
+        int before = size;
+        for (E e : source) {
+            add(e);
+        }
+
+        return size > before;
+    }
+
+    /**
+     * Returns a new array holding every element of this list, in order.
+     * The array is sized once from {@link #size()}.
+     * 
+     * @return new array holding every element
+     */
+    public Object[] toArray() {
+        Object[] retVal = new Object[size];
+        fill(retVal);
+
+        return retVal;
+    }
+
+    /**
+     * Returns every element of this list, in order, in {@code a} if it is large enough
+     * or otherwise in a new array of the same runtime type. Like {@link java.util.Collection#toArray(Object[])},
+     * the slot after the last element is set to null when {@code a} is larger than this list.
+     * 
+     * @param <T> component type of the array
+     * @param a array to fill, if it is large enough
+     * @return array holding every element
+     * @throws ArrayStoreException if an element is not an instance of {@code a}'s component type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        T[] retVal = a.length >= size ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), size);
+        fill(retVal);
+        if (retVal.length > size) {
+            retVal[size] = null;
+        }
+
+        return retVal;
+    }
+
+    /**
+     * Returns a {@link List} view of this list. The view is backed by this list, so
+     * no elements are copied and changes to either are visible in both. Supports
+     * every optional {@link List} operation. Positional access walks the list, while
+     * iteration, searching, equality and hashing walk the nodes once. The view's list
+     * iterator adds, sets and removes in constant time, but moving it backwards walks
+     * the list from the head.
+     * 
+     * @return a list view of this list
+     */
+    public List<E> asList() {
+        return new ListView();
+    }
+
     /**
      * Returns the number of elements in this list.
      * 
@@ -169,6 +353,117 @@ public class SinglyLinkedList<E> implements Iterable<E> {
         return size <= 0;
     }
 
+    /**
+     * Returns the estimated number of bytes used by this list's structure, not counting its elements.
+     * 
+     * @return estimated structural size in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        // every element has its own node, plus the dummy head
+        long bytes = MemoryLayout.shallowSizeOf(getClass()) + (size + 1) * MemoryLayout.shallowSizeOf(Node.class);
+        if (changeLog != null) {
+            bytes += changeLog.memoryFootprint();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes allocated for unused capacity. Nodes are only
+     * allocated for elements, so this is 0 unless a change log is enabled.
+     * 
+     * @return estimated unused bytes
+     */
+    @Override
+    public long capacitySlack() {
+        return changeLog != null ? changeLog.capacitySlack() : 0;
+    }
+
+    /**
+     * Performs {@code action} for each element, in order. Walks the nodes directly
+     * instead of creating an iterator.
+     * 
+     * @param action action to perform
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (Node<E> curr = dhead.next; curr != null; curr = curr.next) {
+            action.accept(curr.item);
+        }
+    }
+
+    /**
+     * Performs {@code action} for each element from position {@code from} (inclusive)
+     * to {@code to} (exclusive), in order.
+     * 
+     * @param from index of the first element
+     * @param to index after the last element
+     * @param action action to perform
+     * @throws ArrayIndexOutOfBoundsException if the range is out of bounds
+     */
+    public void forEach(int from, int to, Consumer<? super E> action) {
+        checkRange(from, to);
+
+        Node<E> curr = dhead.next;
+        for (int i = 0; i < from; i++) {
+            curr = curr.next;
+        }
+
+        for (int i = from; i < to; i++) {
+            action.accept(curr.item);
+            curr = curr.next;
+        }
+    }
+
+    /**
+     * Returns a new cursor over this list. Unlike {@link #iterator()}, a cursor can be
+     * rewound with {@link Cursor#reset()} and reused, so polling loops need not allocate.
+     * Reset the cursor after the list is modified.
+     * 
+     * @return a new cursor positioned at the first element
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Starts recording every add, remove and set in a change log keeping the last
+     * {@code capacity} changes. Returns the existing log if one is already enabled.
+     * 
+     * @param capacity minimum number of changes kept
+     * @return the change log of this list
+     */
+    public ChangeLog<E> enableChangeLog(int capacity) {
+        if (changeLog == null) {
+            changeLog = new ChangeLog<>(capacity);
+        }
+
+        return changeLog;
+    }
+
+    /**
+     * Returns the change log of this list or null if it is not enabled.
+     * 
+     * @return the change log of this list or null
+     */
+    public ChangeLog<E> changeLog() {
+        return changeLog;
+    }
+
+    /**
+     * Copies every element of this list, in order, into the start of {@code dest}.
+     * 
+     * @param dest array at least {@link #size()} long
+     */
+    private void fill(Object[] dest) {
+        Node<E> curr = dhead.next;
+        for (int i = 0; i < size; i++) {
+            dest[i] = curr.item;
+            curr = curr.next;
+        }
+    }
+
     /**
      * Checks if {@code index} is out of range.
      * 
@@ -181,6 +476,19 @@ public class SinglyLinkedList<E> implements Iterable<E> {
         }
     }
 
+    /**
+     * Checks if the range from {@code from} (inclusive) to {@code to} (exclusive) is out of bounds.
+     * 
+     * @param from index of the first element
+     * @param to index after the last element
+     * @throws ArrayIndexOutOfBoundsException if the range is out of bounds
+     */
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+    }
+
     @Override
     public Iterator<E> iterator() {
         return new Iterator<E>() {
@@ -204,4 +512,221 @@ public class SinglyLinkedList<E> implements Iterable<E> {
             }
         };
     }
+
+    /**
+     * Reusable iterator over this list.
+     */
+    public class Cursor implements Iterator<E> {
+
+        /**
+         * Node holding the next element.
+         */
+        private Node<E> curr = dhead.next;
+
+        /**
+         * Moves this cursor back to the first element.
+         */
+        public void reset() {
+            curr = dhead.next;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return curr != null;
+        }
+
+        @Override
+        public E next() {
+            if (curr == null) {
+                throw new NoSuchElementException();
+            }
+
+            E retVal = curr.item;
+            curr = curr.next;
+
+            return retVal;
+        }
+    }
+
+    /**
+     * {@link List} view backed by this list.
+     */
+    private class ListView extends AbstractSequentialList<E> {
+
+        @Override
+        public E get(int index) {
+            return SinglyLinkedList.this.get(index);
+        }
+
+        @Override
+        public boolean add(E e) {
+            modCount++;
+            return SinglyLinkedList.this.add(e);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            return new ViewIterator(index);
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            // one forward walk instead of walking back from the end with previous()
+            int retVal = -1;
+            int i = 0;
+            for (Node<E> curr = dhead.next; curr != null; curr = curr.next, i++) {
+                if (o == null ? curr.item == null : o.equals(curr.item)) {
+                    retVal = i;
+                }
+            }
+
+            return retVal;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return SinglyLinkedList.this.toArray();
+        }
+
+        @Override
+        public <T> T[] toArray(T[] a) {
+            return SinglyLinkedList.this.toArray(a);
+        }
+
+        /**
+         * List iterator that walks the nodes. Keeps the node before the next element,
+         * so it can add and remove without searching.
+         */
+        private class ViewIterator implements ListIterator<E> {
+
+            /**
+             * Node before the element returned by {@code next}. The dummy head at the start.
+             */
+            private Node<E> cursor = dhead;
+
+            /**
+             * Index of the element returned by {@code next}.
+             */
+            private int nextIndex;
+
+            /**
+             * Node returned by the last call to {@code next} or {@code previous}, or null.
+             */
+            private Node<E> lastReturned;
+
+            /**
+             * Node before {@code lastReturned}.
+             */
+            private Node<E> lastPrev;
+
+            ViewIterator(int index) {
+                if (index < 0 || index > size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+
+                for (int i = 0; i < index; i++) {
+                    cursor = cursor.next;
+                }
+                nextIndex = index;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                lastPrev = cursor;
+                lastReturned = cursor.next;
+                cursor = lastReturned;
+                nextIndex++;
+
+                return lastReturned.item;
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return nextIndex > 0;
+            }
+
+            @Override
+            public E previous() {
+                if (!hasPrevious()) {
+                    throw new NoSuchElementException();
+                }
+
+                // no back pointers, so find the node before the cursor from the head
+                Node<E> prev = dhead;
+                while (prev.next != cursor) {
+                    prev = prev.next;
+                }
+
+                lastPrev = prev;
+                lastReturned = cursor;
+                cursor = prev;
+                nextIndex--;
+
+                return lastReturned.item;
+            }
+
+            @Override
+            public int nextIndex() {
+                return nextIndex;
+            }
+
+            @Override
+            public int previousIndex() {
+                return nextIndex - 1;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+
+                if (cursor == lastReturned) {
+                    // returned by next, so the cursor moves back one
+                    cursor = lastPrev;
+                    nextIndex--;
+                }
+                unlinkAfter(lastPrev, nextIndex);
+
+                lastReturned = null;
+                modCount++;
+            }
+
+            @Override
+            public void set(E e) {
+                if (lastReturned == null) {
+                    throw new IllegalStateException();
+                }
+
+                lastReturned.item = e;
+
+                if (changeLog != null) {
+                    changeLog.record(Change.Type.SET, cursor == lastReturned ? nextIndex - 1 : nextIndex, e);
+                }
+            }
+
+            @Override
+            public void add(E e) {
+                cursor = linkAfter(cursor, e, nextIndex);
+                nextIndex++;
+
+                lastReturned = null;
+                modCount++;
+            }
+        }
+    }
 }
@@ -0,0 +1,160 @@
+package project.learnds.memory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Estimates of HotSpot object sizes. Detects compressed oops and compressed class
+ * pointers once at startup and falls back to the usual 64-bit defaults if they
+ * cannot be read. Sizes are estimates: field reordering and padding are approximated
+ * by summing field sizes and rounding the object up to the alignment.
+ */
+public final class MemoryLayout {
+
+    /**
+     * Size of a reference, 4 with compressed oops and 8 without.
+     */
+    public static final int REFERENCE_SIZE;
+
+    /**
+     * Size of an object header.
+     */
+    public static final int OBJECT_HEADER;
+
+    /**
+     * Size of an array header, including the length field.
+     */
+    public static final int ARRAY_HEADER;
+
+    /**
+     * Objects are aligned to this many bytes.
+     */
+    public static final int OBJECT_ALIGNMENT = 8;
+
+    /**
+     * Cached shallow sizes per class.
+     */
+    private static final ClassValue<Long> SHALLOW_SIZES = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            long size = OBJECT_HEADER;
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field f : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(f.getModifiers())) {
+                        size += fieldSize(f.getType());
+                    }
+                }
+            }
+
+            return align(size);
+        }
+    };
+
+    static {
+        boolean is64Bit = !"32".equals(System.getProperty("sun.arch.data.model"));
+        boolean compressedOops = is64Bit && Runtime.getRuntime().maxMemory() < (32L << 30);
+        boolean compressedClassPointers = compressedOops;
+
+        if (is64Bit) {
+            try {
+                com.sun.management.HotSpotDiagnosticMXBean bean =
+                        ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class);
+                compressedOops = Boolean.parseBoolean(bean.getVMOption("UseCompressedOops").getValue());
+                compressedClassPointers = Boolean.parseBoolean(bean.getVMOption("UseCompressedClassPointers").getValue());
+            } catch (RuntimeException | LinkageError e) {
+                // not HotSpot or management not available, keep the defaults
+            }
+        }
+
+        REFERENCE_SIZE = is64Bit && !compressedOops ? 8 : 4;
+        OBJECT_HEADER = !is64Bit ? 8 : compressedClassPointers ? 12 : 16;
+        ARRAY_HEADER = OBJECT_HEADER + 4;
+    }
+
+    private MemoryLayout() {
+    }
+
+    /**
+     * Returns the size of an instance of {@code type}, not counting any objects it refers to.
+     * 
+     * @param type class to measure
+     * @return estimated size in bytes
+     */
+    public static long shallowSizeOf(Class<?> type) {
+        return SHALLOW_SIZES.get(type);
+    }
+
+    /**
+     * Returns the size of an array of {@code length} references.
+     * 
+     * @param length array length
+     * @return estimated size in bytes
+     */
+    public static long referenceArraySize(int length) {
+        return align(ARRAY_HEADER + (long) length * REFERENCE_SIZE);
+    }
+
+    /**
+     * Returns the size of a {@code long[]} of {@code length} elements.
+     * 
+     * @param length array length
+     * @return estimated size in bytes
+     */
+    public static long longArraySize(int length) {
+        return align(align(ARRAY_HEADER) + (long) length * 8);
+    }
+
+    /**
+     * Returns the size of an {@code int[]} of {@code length} elements.
+     * 
+     * @param length array length
+     * @return estimated size in bytes
+     */
+    public static long intArraySize(int length) {
+        return align(ARRAY_HEADER + (long) length * 4);
+    }
+
+    /**
+     * Returns the size of a {@code byte[]} of {@code length} elements.
+     * 
+     * @param length array length
+     * @return estimated size in bytes
+     */
+    public static long byteArraySize(int length) {
+        return align(ARRAY_HEADER + (long) length);
+    }
+
+    /**
+     * Rounds {@code size} up to the object alignment.
+     * 
+     * @param size size in bytes
+     * @return aligned size in bytes
+     */
+    public static long align(long size) {
+        return (size + OBJECT_ALIGNMENT - 1) & -OBJECT_ALIGNMENT;
+    }
+
+    /**
+     * Returns the size of a field of type {@code type}.
+     * 
+     * @param type field type
+     * @return size in bytes
+     */
+    private static int fieldSize(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return REFERENCE_SIZE;
+        }
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+
+        return 1;
+    }
+}
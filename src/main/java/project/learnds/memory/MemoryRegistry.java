@@ -0,0 +1,95 @@
+package project.learnds.memory;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Named collection of {@link MemorySized} instances whose estimates can be added up,
+ * for example to feed a dashboard. Holds collections weakly, so registering one does
+ * not keep it alive; collected entries are dropped the next time the registry is read.
+ * Thread safe.
+ */
+public class MemoryRegistry {
+
+    /**
+     * Registered collections by name.
+     */
+    private final Map<String, WeakReference<MemorySized>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Registers {@code collection} under {@code name}, replacing any collection registered under that name.
+     * 
+     * @param name name to report {@code collection} under
+     * @param collection collection to track
+     */
+    public void register(String name, MemorySized collection) {
+        if (name == null || collection == null) {
+            throw new NullPointerException();
+        }
+
+        entries.put(name, new WeakReference<>(collection));
+    }
+
+    /**
+     * Stops tracking the collection registered under {@code name}.
+     * 
+     * @param name name the collection was registered under
+     */
+    public void unregister(String name) {
+        entries.remove(name);
+    }
+
+    /**
+     * Passes every live registered collection and its name to {@code action}.
+     * 
+     * @param action receives each name and collection
+     */
+    public void forEach(BiConsumer<String, MemorySized> action) {
+        for (Map.Entry<String, WeakReference<MemorySized>> e : entries.entrySet()) {
+            MemorySized collection = e.getValue().get();
+            if (collection == null) {
+                entries.remove(e.getKey(), e.getValue());
+            } else {
+                action.accept(e.getKey(), collection);
+            }
+        }
+    }
+
+    /**
+     * Returns the sum of {@link MemorySized#memoryFootprint()} over every live registered collection.
+     * 
+     * @return total estimated structural size in bytes
+     */
+    public long totalFootprint() {
+        long[] total = new long[1];
+        forEach((name, c) -> total[0] += c.memoryFootprint());
+
+        return total[0];
+    }
+
+    /**
+     * Returns the sum of {@link MemorySized#capacitySlack()} over every live registered collection.
+     * 
+     * @return total estimated unused bytes
+     */
+    public long totalSlack() {
+        long[] total = new long[1];
+        forEach((name, c) -> total[0] += c.capacitySlack());
+
+        return total[0];
+    }
+
+    /**
+     * Returns the number of live registered collections.
+     * 
+     * @return the number of live registered collections
+     */
+    public int size() {
+        int[] count = new int[1];
+        forEach((name, c) -> count[0]++);
+
+        return count[0];
+    }
+}
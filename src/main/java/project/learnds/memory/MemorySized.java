@@ -0,0 +1,24 @@
+package project.learnds.memory;
+
+/**
+ * A collection that can estimate how much heap it uses. Estimates cover the
+ * collection's own structure (the collection object, its arrays and nodes) but
+ * not the elements it holds, which may be shared with other objects.
+ */
+public interface MemorySized {
+
+    /**
+     * Returns the estimated number of bytes used by this collection's structure.
+     * 
+     * @return estimated structural size in bytes
+     */
+    long memoryFootprint();
+
+    /**
+     * Returns the estimated number of bytes allocated for capacity that is not in use,
+     * such as empty slots at the end of a backing array.
+     * 
+     * @return estimated unused bytes
+     */
+    long capacitySlack();
+}
@@ -0,0 +1,342 @@
+package project.learnds.merge;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+import project.learnds.array.DynamicArray;
+import project.learnds.linkedlist.DoublyLinkedList;
+import project.learnds.linkedlist.SinglyLinkedList;
+import project.learnds.tree.SortedList;
+
+/**
+ * Merges any number of sorted inputs into one sorted output with a {@link LoserTree}.
+ * Inputs are read through their iterators, so linked lists are merged in linear time.
+ */
+public final class KWayMerge {
+
+    private KWayMerge() {
+    }
+
+    /**
+     * Returns an iterator over the merge of {@code inputs}, each of which must be sorted by {@code comparator}.
+     * 
+     * @param <E> type of the elements
+     * @param inputs sorted inputs
+     * @param comparator order of the elements
+     * @param dedupe whether to drop elements equal (by {@code comparator}) to the previous one
+     * @return iterator over the merged elements
+     */
+    public static <E> Iterator<E> merge(List<? extends Iterable<? extends E>> inputs,
+            Comparator<? super E> comparator, boolean dedupe) {
+        List<Iterator<? extends E>> iterators = new ArrayList<>(inputs.size());
+        for (Iterable<? extends E> input : inputs) {
+            iterators.add(input.iterator());
+        }
+
+        Iterator<E> merged = new LoserTree<>(iterators, comparator);
+
+        return dedupe ? new Dedupe<>(merged, comparator) : merged;
+    }
+
+    /**
+     * Merges {@code inputs} and passes every element, in order, to {@code sink}, such as {@code list::add}.
+     * 
+     * @param <E> type of the elements
+     * @param inputs sorted inputs
+     * @param comparator order of the elements
+     * @param dedupe whether to drop elements equal (by {@code comparator}) to the previous one
+     * @param sink receives each merged element
+     * @return number of elements passed to {@code sink}
+     */
+    public static <E> int mergeInto(List<? extends Iterable<? extends E>> inputs,
+            Comparator<? super E> comparator, boolean dedupe, Consumer<? super E> sink) {
+        Iterator<E> merged = merge(inputs, comparator, dedupe);
+
+        int count = 0;
+        while (merged.hasNext()) {
+            sink.accept(merged.next());
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Merges {@code inputs} into a new {@link DynamicArray}. When every input's size is known
+     * the array is created with exactly enough capacity, so it never grows.
+     * 
+     * @param <E> type of the elements
+     * @param inputs sorted inputs
+     * @param comparator order of the elements
+     * @param dedupe whether to drop elements equal (by {@code comparator}) to the previous one
+     * @return new array holding the merged elements
+     */
+    public static <E> DynamicArray<E> mergeToArray(List<? extends Iterable<? extends E>> inputs,
+            Comparator<? super E> comparator, boolean dedupe) {
+        DynamicArray<E> out = new DynamicArray<>(Math.max(totalSize(inputs), 0));
+        mergeInto(inputs, comparator, dedupe, out::add);
+
+        return out;
+    }
+
+    /**
+     * Merges {@code inputs} in parallel on {@code pool}. The key space is split into one range
+     * per worker using splitters sampled from the inputs; each worker merges its slice of every
+     * input with its own loser tree and the results are joined in order. Equal elements always
+     * fall in the same range, so deduplication works as in the sequential merge.
+     * 
+     * @param <E> type of the elements
+     * @param inputs sorted inputs
+     * @param comparator order of the elements
+     * @param dedupe whether to drop elements equal (by {@code comparator}) to the previous one
+     * @param pool pool to run the workers on
+     * @return new array holding the merged elements
+     */
+    public static <E> DynamicArray<E> parallelMergeToArray(List<? extends DynamicArray<? extends E>> inputs,
+            Comparator<? super E> comparator, boolean dedupe, ForkJoinPool pool) {
+        int parts = Math.max(1, pool.getParallelism());
+        List<E> splitters = splitters(inputs, comparator, parts);
+
+        // bounds[p][i] is where partition p starts in input i
+        int[][] bounds = new int[splitters.size() + 2][inputs.size()];
+        for (int i = 0; i < inputs.size(); i++) {
+            DynamicArray<? extends E> input = inputs.get(i);
+            for (int p = 0; p < splitters.size(); p++) {
+                bounds[p + 1][i] = lowerBound(input, splitters.get(p), comparator);
+            }
+            bounds[splitters.size() + 1][i] = input.size();
+        }
+
+        List<PartitionTask<E>> tasks = new ArrayList<>();
+        for (int p = 0; p + 1 < bounds.length; p++) {
+            tasks.add(new PartitionTask<>(inputs, bounds[p], bounds[p + 1], comparator, dedupe));
+        }
+
+        return pool.invoke(new RecursiveTask<DynamicArray<E>>() {
+            @Override
+            protected DynamicArray<E> compute() {
+                invokeAll(tasks);
+
+                int total = 0;
+                for (PartitionTask<E> task : tasks) {
+                    total += task.join().size();
+                }
+
+                DynamicArray<E> out = new DynamicArray<>(total);
+                for (PartitionTask<E> task : tasks) {
+                    task.join().forEach(out::add);
+                }
+
+                return out;
+            }
+        });
+    }
+
+    /**
+     * Returns the total number of elements in {@code inputs} or -1 if any input's size is unknown.
+     * 
+     * @param inputs inputs to measure
+     * @return the total size or -1
+     */
+    static int totalSize(List<? extends Iterable<?>> inputs) {
+        long total = 0;
+        for (Iterable<?> input : inputs) {
+            int size;
+            if (input instanceof DynamicArray) {
+                size = ((DynamicArray<?>) input).size();
+            } else if (input instanceof SinglyLinkedList) {
+                size = ((SinglyLinkedList<?>) input).size();
+            } else if (input instanceof DoublyLinkedList) {
+                size = ((DoublyLinkedList<?>) input).size();
+            } else if (input instanceof SortedList) {
+                size = ((SortedList<?>) input).size();
+            } else if (input instanceof Collection) {
+                size = ((Collection<?>) input).size();
+            } else {
+                return -1;
+            }
+
+            total += size;
+        }
+
+        return (int) Math.min(total, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Picks up to {@code parts - 1} distinct splitters from evenly spaced samples of every input.
+     */
+    private static <E> List<E> splitters(List<? extends DynamicArray<? extends E>> inputs,
+            Comparator<? super E> comparator, int parts) {
+        List<E> samples = new ArrayList<>();
+        for (DynamicArray<? extends E> input : inputs) {
+            for (int s = 1; s < parts && input.size() > 0; s++) {
+                samples.add(input.get((int) ((long) input.size() * s / parts)));
+            }
+        }
+        samples.sort(comparator);
+
+        List<E> retVal = new ArrayList<>();
+        for (int s = 1; s < parts && !samples.isEmpty(); s++) {
+            E splitter = samples.get((int) ((long) samples.size() * s / parts));
+            if (retVal.isEmpty() || comparator.compare(retVal.get(retVal.size() - 1), splitter) < 0) {
+                retVal.add(splitter);
+            }
+        }
+
+        return retVal;
+    }
+
+    /**
+     * Returns the index of the first element of {@code input} that is not less than {@code key}.
+     */
+    private static <E> int lowerBound(DynamicArray<? extends E> input, E key, Comparator<? super E> comparator) {
+        int lo = 0;
+        int hi = input.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(input.get(mid), key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    /**
+     * Merges one key range of every input.
+     */
+    private static final class PartitionTask<E> extends RecursiveTask<DynamicArray<E>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends DynamicArray<? extends E>> inputs;
+
+        private final int[] from;
+
+        private final int[] to;
+
+        private final Comparator<? super E> comparator;
+
+        private final boolean dedupe;
+
+        PartitionTask(List<? extends DynamicArray<? extends E>> inputs, int[] from, int[] to,
+                Comparator<? super E> comparator, boolean dedupe) {
+            this.inputs = inputs;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.dedupe = dedupe;
+        }
+
+        @Override
+        protected DynamicArray<E> compute() {
+            List<Iterator<? extends E>> slices = new ArrayList<>(inputs.size());
+            int total = 0;
+            for (int i = 0; i < inputs.size(); i++) {
+                slices.add(new Slice<>(inputs.get(i), from[i], to[i]));
+                total += to[i] - from[i];
+            }
+
+            Iterator<E> merged = new LoserTree<>(slices, comparator);
+            if (dedupe) {
+                merged = new Dedupe<>(merged, comparator);
+            }
+
+            DynamicArray<E> out = new DynamicArray<>(total);
+            while (merged.hasNext()) {
+                out.add(merged.next());
+            }
+
+            return out;
+        }
+    }
+
+    /**
+     * Iterator over positions {@code from} (inclusive) to {@code to} (exclusive) of a {@link DynamicArray}.
+     */
+    private static final class Slice<E> implements Iterator<E> {
+
+        private final DynamicArray<? extends E> array;
+
+        private final int to;
+
+        private int index;
+
+        Slice(DynamicArray<? extends E> array, int from, int to) {
+            this.array = array;
+            this.index = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < to;
+        }
+
+        @Override
+        public E next() {
+            if (index >= to) {
+                throw new NoSuchElementException();
+            }
+
+            return array.get(index++);
+        }
+    }
+
+    /**
+     * Iterator that skips elements equal to the one returned before them.
+     */
+    private static final class Dedupe<E> implements Iterator<E> {
+
+        private final Iterator<E> source;
+
+        private final Comparator<? super E> comparator;
+
+        private E pending;
+
+        private boolean hasPending;
+
+        Dedupe(Iterator<E> source, Comparator<? super E> comparator) {
+            this.source = source;
+            this.comparator = comparator;
+            if (source.hasNext()) {
+                pending = source.next();
+                hasPending = true;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasPending;
+        }
+
+        @Override
+        public E next() {
+            if (!hasPending) {
+                throw new NoSuchElementException();
+            }
+
+            E retVal = pending;
+            hasPending = false;
+            while (source.hasNext()) {
+                E e = source.next();
+                if (comparator.compare(retVal, e) != 0) {
+                    pending = e;
+                    hasPending = true;
+                    break;
+                }
+            }
+
+            return retVal;
+        }
+    }
+}
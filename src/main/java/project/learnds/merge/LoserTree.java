@@ -0,0 +1,154 @@
+package project.learnds.merge;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator that merges several sorted iterators using a loser tree (tournament tree).
+ * Each internal node remembers the input that lost the match played there, so after the
+ * winner is taken only the matches on the path from its leaf to the root are replayed:
+ * log2(k) comparisons per element for k inputs. Ties go to the input with the lower
+ * index, so the merge is stable.
+ */
+public class LoserTree<E> implements Iterator<E> {
+
+    /**
+     * Input iterators.
+     */
+    private final Iterator<? extends E>[] inputs;
+
+    /**
+     * Current head element of each input.
+     */
+    private final Object[] heads;
+
+    /**
+     * Whether each input has run out. An exhausted input loses every match.
+     */
+    private final boolean[] exhausted;
+
+    /**
+     * {@code tree[0]} is the overall winner; {@code tree[1..k-1]} are the losers of each internal node.
+     * Leaves are the implicit positions {@code k..2k-1}.
+     */
+    private final int[] tree;
+
+    /**
+     * Order of the elements.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Constructor that merges {@code inputs}, each of which must be sorted by {@code comparator}.
+     * 
+     * @param inputs sorted iterators to merge
+     * @param comparator order of the elements
+     */
+    @SuppressWarnings("unchecked")
+    public LoserTree(List<? extends Iterator<? extends E>> inputs, Comparator<? super E> comparator) {
+        if (comparator == null) {
+            throw new NullPointerException();
+        }
+
+        int k = inputs.size();
+        this.inputs = (Iterator<? extends E>[]) inputs.toArray(new Iterator<?>[k]);
+        this.comparator = comparator;
+        heads = new Object[k];
+        exhausted = new boolean[k];
+        tree = new int[Math.max(k, 1)];
+
+        for (int i = 0; i < k; i++) {
+            advance(i);
+        }
+
+        if (k == 0) {
+            return;
+        }
+
+        // play the initial tournament bottom up
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) {
+            winners[k + i] = i;
+        }
+        for (int node = k - 1; node >= 1; node--) {
+            int a = winners[2 * node];
+            int b = winners[2 * node + 1];
+            if (beats(a, b)) {
+                winners[node] = a;
+                tree[node] = b;
+            } else {
+                winners[node] = b;
+                tree[node] = a;
+            }
+        }
+
+        tree[0] = winners[1];
+    }
+
+    @Override
+    public boolean hasNext() {
+        return heads.length > 0 && !exhausted[tree[0]];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        int winner = tree[0];
+        E retVal = (E) heads[winner];
+        advance(winner);
+
+        // replay the matches from the winner's leaf up to the root
+        for (int node = (winner + heads.length) >> 1; node >= 1; node >>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+
+        tree[0] = winner;
+
+        return retVal;
+    }
+
+    /**
+     * Loads the next element of input {@code i} into {@code heads}.
+     * 
+     * @param i index of the input
+     */
+    private void advance(int i) {
+        if (inputs[i].hasNext()) {
+            heads[i] = inputs[i].next();
+        } else {
+            heads[i] = null;
+            exhausted[i] = true;
+        }
+    }
+
+    /**
+     * Returns true if the head of input {@code a} comes before the head of input {@code b}.
+     * 
+     * @param a index of the first input
+     * @param b index of the second input
+     * @return true if {@code a} wins the match
+     */
+    @SuppressWarnings("unchecked")
+    private boolean beats(int a, int b) {
+        if (exhausted[a]) {
+            return false;
+        }
+        if (exhausted[b]) {
+            return true;
+        }
+
+        int c = comparator.compare((E) heads[a], (E) heads[b]);
+
+        return c < 0 || (c == 0 && a < b);
+    }
+}
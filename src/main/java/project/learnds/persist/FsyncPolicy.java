@@ -0,0 +1,24 @@
+package project.learnds.persist;
+
+/**
+ * When a {@link WriteBehindList} forces written records to the storage device.
+ */
+public enum FsyncPolicy {
+
+    /**
+     * Never forces. Records survive a process crash once written, but not
+     * necessarily an operating system crash or power loss.
+     */
+    NEVER,
+
+    /**
+     * Forces after every write of one or more batches. Slowest, but a record is
+     * durable once {@link WriteBehindList#flush} returns.
+     */
+    EVERY_WRITE,
+
+    /**
+     * Forces only when the list is closed.
+     */
+    ON_CLOSE
+}
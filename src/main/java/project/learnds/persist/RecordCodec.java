@@ -0,0 +1,45 @@
+package project.learnds.persist;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts elements to and from the bytes of a single record in an append-only file.
+ */
+public interface RecordCodec<E> {
+
+    /**
+     * Returns the bytes of the record holding {@code e}.
+     * 
+     * @param e element to encode
+     * @return bytes of the record holding {@code e}
+     */
+    byte[] encode(E e);
+
+    /**
+     * Returns the element held by the record {@code bytes}.
+     * 
+     * @param bytes bytes of a record written by {@link #encode}
+     * @return element held by the record
+     */
+    E decode(byte[] bytes);
+
+    /**
+     * Returns a codec that stores strings as UTF-8. Does not allow null values.
+     * 
+     * @return a codec that stores strings as UTF-8
+     */
+    static RecordCodec<String> utf8() {
+        return new RecordCodec<>() {
+
+            @Override
+            public byte[] encode(String e) {
+                return e.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String decode(byte[] bytes) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
@@ -0,0 +1,650 @@
+package project.learnds.persist;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import project.learnds.array.SpscRingBuffer;
+import project.learnds.linkedlist.SinglyLinkedList;
+
+/**
+ * Thread safe {@link SinglyLinkedList} that persists every added element to an
+ * append-only file without making {@code add} wait for the disk. Added elements are
+ * encoded into batches, and a background writer appends whole batches with one
+ * gathering write. When the writer falls behind by the configured number of batches,
+ * an {@code add} that fills a batch blocks until the writer catches up. It waits
+ * without holding the list's lock, so reads on other threads are not stalled.
+ * The writer thread parks while there is nothing to write. Existing records in
+ * the file are replayed into the list when it is opened.
+ * 
+ * <p>Each record is a 4-byte big-endian length followed by the bytes produced by the
+ * codec. A record cut short by a crash is dropped, and the file truncated, on replay.
+ * Elements still in memory are only guaranteed to be written after {@link #flush}
+ * or {@link #close} returns.
+ */
+public class WriteBehindList<E> implements Closeable {
+
+    /**
+     * Number of elements per batch used by the two-argument constructor.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * Number of batches that may wait for the writer, used by the two-argument constructor.
+     */
+    public static final int DEFAULT_MAX_PENDING_BATCHES = 16;
+
+    /**
+     * Maximum number of batches the writer combines into one gathering write.
+     */
+    private static final int MAX_BATCHES_PER_WRITE = 64;
+
+    /**
+     * Elements of this list, in the order they were added.
+     */
+    private final SinglyLinkedList<E> list = new SinglyLinkedList<>();
+
+    /**
+     * Converts elements to and from records.
+     */
+    private final RecordCodec<E> codec;
+
+    /**
+     * Channel of the append-only file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Number of elements per batch.
+     */
+    private final int batchSize;
+
+    /**
+     * When written records are forced to the storage device.
+     */
+    private final FsyncPolicy fsyncPolicy;
+
+    /**
+     * Batches waiting for the writer. Only produced into while holding {@code lock}.
+     */
+    private final SpscRingBuffer<Batch> pending;
+
+    /**
+     * Full batches that didn't fit in {@code pending} yet, in submission order.
+     */
+    private final ArrayDeque<Batch> overflow = new ArrayDeque<>();
+
+    /**
+     * Thread that writes batches. Unparked whenever a batch is handed over.
+     */
+    private final Thread writer;
+
+    /**
+     * Guards {@code list}, the batch being filled, {@code overflow}, {@code submitted},
+     * {@code handedOver} and {@code closed}. Never held while waiting for the writer.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Monitor the writer notifies after every write.
+     */
+    private final Object progress = new Object();
+
+    /**
+     * Records of the batch being filled.
+     */
+    private byte[][] records;
+
+    /**
+     * Number of records in the batch being filled.
+     */
+    private int recordCount;
+
+    /**
+     * Sequence number of the last batch handed to the writer.
+     */
+    private long submitted;
+
+    /**
+     * Sequence number of the last batch moved into {@code pending}.
+     */
+    private long handedOver;
+
+    /**
+     * Sequence number of the last batch the writer is done with.
+     */
+    private volatile long written;
+
+    /**
+     * First error the writer ran into. Once set, nothing more is written.
+     */
+    private volatile IOException failure;
+
+    /**
+     * True once {@code close} has been called.
+     */
+    private boolean closed;
+
+    /**
+     * Constructor with a batch size of 256, up to 16 pending batches, forcing on close,
+     * and a writer running on a virtual thread when available.
+     * 
+     * @param path path of the append-only file, created if it doesn't exist
+     * @param codec converts elements to and from records
+     * @throws IOException if the file can't be opened or replayed
+     */
+    public WriteBehindList(Path path, RecordCodec<E> codec) throws IOException {
+        this(path, codec, DEFAULT_BATCH_SIZE, DEFAULT_MAX_PENDING_BATCHES, FsyncPolicy.ON_CLOSE, virtualThreadFactory());
+    }
+
+    /**
+     * Constructor that replays {@code path} into this list and starts the writer.
+     * 
+     * @param path path of the append-only file, created if it doesn't exist
+     * @param codec converts elements to and from records
+     * @param batchSize number of elements per batch
+     * @param maxPendingBatches number of full batches that may wait for the writer before {@code add} blocks
+     * @param fsyncPolicy when written records are forced to the storage device
+     * @param threadFactory creates the writer thread
+     * @throws IllegalArgumentException if {@code batchSize} or {@code maxPendingBatches} is less than 1
+     * @throws IOException if the file can't be opened or replayed
+     */
+    public WriteBehindList(Path path, RecordCodec<E> codec, int batchSize, int maxPendingBatches,
+            FsyncPolicy fsyncPolicy, ThreadFactory threadFactory) throws IOException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Illegal batch size: " + batchSize);
+        }
+        if (maxPendingBatches < 1) {
+            throw new IllegalArgumentException("Illegal max pending batches: " + maxPendingBatches);
+        }
+        if (codec == null || fsyncPolicy == null || threadFactory == null) {
+            throw new NullPointerException();
+        }
+
+        this.codec = codec;
+        this.batchSize = batchSize;
+        this.fsyncPolicy = fsyncPolicy;
+        records = new byte[batchSize][];
+        pending = new SpscRingBuffer<>(maxPendingBatches);
+
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long end = replay(channel, codec, list::add);
+            channel.truncate(end);
+            channel.position(end);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+
+        writer = threadFactory.newThread(this::drainPending);
+        writer.start();
+    }
+
+    /**
+     * Returns a list holding every complete record of {@code path}, in order.
+     * Returns an empty list if the file doesn't exist. Does not modify the file.
+     * 
+     * @param <E> type of the elements
+     * @param path path of the append-only file
+     * @param codec converts records to elements
+     * @return list holding every complete record of the file
+     * @throws IOException if the file can't be read
+     */
+    public static <E> SinglyLinkedList<E> replay(Path path, RecordCodec<E> codec) throws IOException {
+        SinglyLinkedList<E> retVal = new SinglyLinkedList<>();
+        if (Files.exists(path)) {
+            try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+                replay(in, codec, retVal::add);
+            }
+        }
+
+        return retVal;
+    }
+
+    /**
+     * Returns a thread factory that creates virtual threads when the runtime supports
+     * them (Java 21 and later), and daemon platform threads otherwise.
+     * 
+     * @return a thread factory for writer threads
+     */
+    public static ThreadFactory virtualThreadFactory() {
+        try {
+            // looked up reflectively so this still compiles and runs before Java 21
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return r -> {
+                Thread t = new Thread(r, "write-behind");
+                t.setDaemon(true);
+                return t;
+            };
+        }
+    }
+
+    /**
+     * Appends the specified element {@code e} to the end of the list and queues it to be written.
+     * If {@code e} fills a batch while the writer is behind by the maximum number of
+     * pending batches, blocks until the batch can be handed over. Other threads can
+     * still read this list meanwhile.
+     * 
+     * @param e element to be appended to this list
+     * @return true
+     * @throws IllegalStateException if this list has been closed
+     * @throws UncheckedIOException if an earlier write failed
+     */
+    public boolean add(E e) {
+        byte[] record = codec.encode(e);
+
+        long sequence;
+        synchronized (lock) {
+            checkOpen();
+
+            list.add(e);
+            records[recordCount++] = record;
+            if (recordCount < batchSize) {
+                return true;
+            }
+            sequence = submit(false);
+        }
+
+        awaitHandedOver(sequence);
+
+        return true;
+    }
+
+    /**
+     * Returns the element at position {@code index}.
+     * 
+     * @param index index of the element to return
+     * @return element at position {@code index}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    public E get(int index) {
+        synchronized (lock) {
+            return list.get(index);
+        }
+    }
+
+    /**
+     * Returns the number of elements in this list, written or not.
+     * 
+     * @return the number of elements in this list
+     */
+    public int size() {
+        synchronized (lock) {
+            return list.size();
+        }
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     * 
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size() <= 0;
+    }
+
+    /**
+     * Performs {@code action} on every element in order while holding this list's lock.
+     * 
+     * @param action action to be performed on each element
+     */
+    public void forEach(Consumer<? super E> action) {
+        synchronized (lock) {
+            list.forEach(action);
+        }
+    }
+
+    /**
+     * Returns the number of full batches waiting for the writer. A value near the
+     * configured maximum means the writer is falling behind.
+     * 
+     * @return the number of batches waiting for the writer
+     */
+    public int pendingBatches() {
+        return pending.size();
+    }
+
+    /**
+     * Hands the partially filled batch to the writer and waits until every element
+     * added so far has been written, and forced if the policy is {@link FsyncPolicy#EVERY_WRITE}.
+     * 
+     * @throws IllegalStateException if this list has been closed
+     * @throws IOException if a write failed, now or earlier
+     */
+    public void flush() throws IOException {
+        long target;
+        synchronized (lock) {
+            // checked before checkOpen, which reports the failure unchecked for add
+            if (failure != null) {
+                throw new IOException("Write-behind failed", failure);
+            }
+            checkOpen();
+
+            if (recordCount > 0) {
+                submit(false);
+            }
+            target = submitted;
+        }
+
+        awaitHandedOver(target);
+        awaitWritten(target);
+    }
+
+    /**
+     * Writes every remaining element, forces the file unless the policy is
+     * {@link FsyncPolicy#NEVER}, stops the writer and closes the file.
+     * Does nothing if this list is already closed. The file is closed even if a write failed.
+     * 
+     * @throws IOException if a write failed, now or earlier
+     */
+    @Override
+    public void close() throws IOException {
+        long target;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            target = submit(true);
+        }
+
+        try {
+            awaitHandedOver(target);
+            awaitWritten(target);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Returns a string representation of this list.
+     * 
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        synchronized (lock) {
+            return list.toString();
+        }
+    }
+
+    /**
+     * Queues the batch being filled for the writer, hands over as many queued batches
+     * as fit, and starts a new batch. Never waits. Must hold {@code lock}.
+     * 
+     * @param last true if this is the final batch
+     * @return sequence number of the queued batch
+     */
+    private long submit(boolean last) {
+        overflow.add(new Batch(++submitted, records, recordCount, last));
+
+        records = new byte[batchSize][];
+        recordCount = 0;
+
+        handOver();
+
+        return submitted;
+    }
+
+    /**
+     * Moves queued batches into {@code pending}, in order, until it is full, and wakes
+     * the writer if any were moved. Must hold {@code lock}.
+     */
+    private void handOver() {
+        Batch batch;
+        boolean moved = false;
+        while ((batch = overflow.peek()) != null && pending.offer(batch)) {
+            overflow.poll();
+            handedOver = batch.sequence;
+            moved = true;
+        }
+
+        if (moved) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Waits, without holding {@code lock}, until batch {@code sequence} has been handed
+     * to the writer. Retries the hand over each time the writer finishes a write, which
+     * frees space in {@code pending}. Keeps waiting if interrupted, but restores the
+     * interrupt status before returning.
+     * 
+     * @param sequence sequence number of the batch to wait for
+     */
+    private void awaitHandedOver(long sequence) {
+        boolean interrupted = false;
+        while (true) {
+            long seen = written;
+            synchronized (lock) {
+                handOver();
+                if (handedOver >= sequence) {
+                    break;
+                }
+            }
+
+            synchronized (progress) {
+                while (written == seen) {
+                    try {
+                        progress.wait();
+                    } catch (InterruptedException ex) {
+                        interrupted = true;
+                    }
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until the writer is done with batch {@code sequence}.
+     * 
+     * @param sequence sequence number of the batch to wait for
+     * @throws IOException if a write failed or the thread was interrupted
+     */
+    private void awaitWritten(long sequence) throws IOException {
+        synchronized (progress) {
+            while (written < sequence && failure == null) {
+                try {
+                    progress.wait();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw new IOException("Write-behind failed", failure);
+        }
+    }
+
+    /**
+     * Writer loop. Parks until batches are handed over, writes every batch waiting
+     * with one gathering write, and stops after the final batch. After a failure,
+     * keeps taking batches without writing them, so producers never block forever.
+     */
+    private void drainPending() {
+        List<Batch> batches = new ArrayList<>();
+
+        boolean last = false;
+        while (!last) {
+            if (pending.drain(batches::add, MAX_BATCHES_PER_WRITE) == 0) {
+                // handOver unparks after offering, so a batch offered before this park isn't missed
+                LockSupport.park(this);
+                // the writer has no use for interrupts, and a pending one would stop park from blocking
+                Thread.interrupted();
+                continue;
+            }
+
+            Batch tail = batches.get(batches.size() - 1);
+            last = tail.last;
+
+            if (failure == null) {
+                try {
+                    write(batches);
+                    if (fsyncPolicy == FsyncPolicy.EVERY_WRITE || (last && fsyncPolicy == FsyncPolicy.ON_CLOSE)) {
+                        channel.force(false);
+                    }
+                } catch (Throwable ex) {
+                    // anything escaping would kill the writer and leave flush and close waiting forever
+                    failure = ex instanceof IOException ? (IOException) ex : new IOException(ex);
+                }
+            }
+
+            synchronized (progress) {
+                written = tail.sequence;
+                progress.notifyAll();
+            }
+            batches.clear();
+        }
+    }
+
+    /**
+     * Appends every record of {@code batches} with gathering writes. Each record
+     * contributes a buffer for its length and one for its bytes.
+     * 
+     * @param batches batches to write
+     * @throws IOException if the write fails
+     */
+    private void write(List<Batch> batches) throws IOException {
+        int n = 0;
+        for (Batch batch : batches) {
+            n += batch.count;
+        }
+        if (n == 0) {
+            return;
+        }
+
+        ByteBuffer lengths = ByteBuffer.allocate(n * Integer.BYTES);
+        ByteBuffer[] buffers = new ByteBuffer[n * 2];
+        int i = 0;
+        for (Batch batch : batches) {
+            for (int j = 0; j < batch.count; j++, i++) {
+                byte[] record = batch.records[j];
+                lengths.putInt(i * Integer.BYTES, record.length);
+                buffers[i * 2] = lengths.slice(i * Integer.BYTES, Integer.BYTES);
+                buffers[i * 2 + 1] = ByteBuffer.wrap(record);
+            }
+        }
+
+        // a gathering write may stop early, for example at the operating system's buffer limit
+        int offset = 0;
+        while (offset < buffers.length) {
+            channel.write(buffers, offset, buffers.length - offset);
+            while (offset < buffers.length && !buffers[offset].hasRemaining()) {
+                offset++;
+            }
+        }
+    }
+
+    /**
+     * Checks if this list can still be added to. Must hold {@code lock}.
+     * 
+     * @throws IllegalStateException if this list has been closed
+     * @throws UncheckedIOException if an earlier write failed
+     */
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("Write-behind failed", failure);
+        }
+    }
+
+    /**
+     * Passes every complete record of {@code in}, from its start, to {@code action}.
+     * Returns the position just past the last complete record.
+     * 
+     * @param <E> type of the elements
+     * @param in channel of the append-only file
+     * @param codec converts records to elements
+     * @param action receives each element in order
+     * @return position just past the last complete record
+     * @throws IOException if the file can't be read
+     */
+    private static <E> long replay(FileChannel in, RecordCodec<E> codec, Consumer<? super E> action) throws IOException {
+        in.position(0);
+        // not closed, since that would close the channel
+        DataInputStream data = new DataInputStream(new BufferedInputStream(Channels.newInputStream(in)));
+
+        long retVal = 0;
+        long remaining = in.size();
+        while (remaining >= Integer.BYTES) {
+            int length = data.readInt();
+            if (length < 0 || length > remaining - Integer.BYTES) {
+                break;
+            }
+
+            byte[] record = new byte[length];
+            try {
+                data.readFully(record);
+            } catch (EOFException ex) {
+                break;
+            }
+
+            action.accept(codec.decode(record));
+            retVal += Integer.BYTES + length;
+            remaining -= Integer.BYTES + length;
+        }
+
+        return retVal;
+    }
+
+    /**
+     * Encoded elements handed to the writer together.
+     */
+    private static final class Batch {
+
+        /**
+         * Position of this batch in the order batches were submitted, starting at 1.
+         */
+        final long sequence;
+
+        /**
+         * Records of this batch. Only the first {@code count} are used.
+         */
+        final byte[][] records;
+
+        /**
+         * Number of records in this batch.
+         */
+        final int count;
+
+        /**
+         * True if this is the final batch, submitted by {@code close}.
+         */
+        final boolean last;
+
+        Batch(long sequence, byte[][] records, int count, boolean last) {
+            this.sequence = sequence;
+            this.records = records;
+            this.count = count;
+            this.last = last;
+        }
+    }
+}
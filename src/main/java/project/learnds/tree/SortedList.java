@@ -0,0 +1,891 @@
+package project.learnds.tree;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import project.learnds.array.DynamicArray;
+import project.learnds.memory.MemoryLayout;
+import project.learnds.memory.MemorySized;
+
+/**
+ * List that keeps its elements sorted, implemented as a counted B+ tree.
+ * Elements live in array-backed leaves that are linked together for iteration.
+ * Internal nodes store, for every child, a separator key used to route searches
+ * and the number of elements below it, so both finding an element's position
+ * (rank) and finding the element at a position (select) are O(log n).
+ * Allows duplicates, but not null values.
+ */
+public class SortedList<E> implements Iterable<E>, MemorySized {
+
+    /**
+     * Maximum number of entries in a node.
+     */
+    static final int MAX_KEYS = 64;
+
+    /**
+     * Minimum number of entries in a node other than the root.
+     */
+    static final int MIN_KEYS = MAX_KEYS / 2;
+
+    /**
+     * Class that represents a node of the tree. Arrays have one spare slot so a
+     * node may overflow by one entry before it is split.
+     */
+    private abstract static class Node {
+
+        /**
+         * Elements of a leaf, or separators of an internal node. In an internal node
+         * {@code keys[i]} is less than or equal to every element below {@code children[i]}
+         * and greater than or equal to every element below {@code children[i - 1]}.
+         */
+        final Object[] keys = new Object[MAX_KEYS + 1];
+
+        /**
+         * Number of entries in this node.
+         */
+        int n;
+    }
+
+    /**
+     * Class that represents a leaf holding elements.
+     */
+    private static final class Leaf extends Node {
+
+        /**
+         * Pointer to the next leaf in sorted order.
+         */
+        Leaf next;
+    }
+
+    /**
+     * Class that represents an internal node.
+     */
+    private static final class Internal extends Node {
+
+        /**
+         * Child nodes.
+         */
+        final Node[] children = new Node[MAX_KEYS + 1];
+
+        /**
+         * Number of elements below each child.
+         */
+        final int[] counts = new int[MAX_KEYS + 1];
+    }
+
+    /**
+     * Order of the elements.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Root node.
+     */
+    private Node root = new Leaf();
+
+    /**
+     * Number of elements in this list.
+     */
+    private int size;
+
+    /**
+     * Constructor that orders elements by their natural ordering.
+     * Elements must implement {@link Comparable}.
+     */
+    @SuppressWarnings("unchecked")
+    public SortedList() {
+        this((Comparator<? super E>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Constructor that orders elements with {@code comparator}.
+     * 
+     * @param comparator order of the elements
+     */
+    public SortedList(Comparator<? super E> comparator) {
+        if (comparator == null) {
+            throw new NullPointerException();
+        }
+
+        this.comparator = comparator;
+    }
+
+    /**
+     * Builds a list from {@code sorted}, which must already be in natural order, in O(n).
+     * 
+     * @param <E> type of the elements
+     * @param sorted elements in natural order
+     * @return new list holding every element of {@code sorted}
+     * @throws IllegalArgumentException if {@code sorted} is not sorted
+     */
+    public static <E extends Comparable<? super E>> SortedList<E> fromSorted(DynamicArray<E> sorted) {
+        return fromSorted(sorted, Comparator.naturalOrder());
+    }
+
+    /**
+     * Builds a list from {@code sorted}, which must already be ordered by {@code comparator}, in O(n).
+     * Leaves and internal nodes are filled evenly, bottom up.
+     * 
+     * @param <E> type of the elements
+     * @param sorted elements ordered by {@code comparator}
+     * @param comparator order of the elements
+     * @return new list holding every element of {@code sorted}
+     * @throws IllegalArgumentException if {@code sorted} is not sorted
+     */
+    public static <E> SortedList<E> fromSorted(DynamicArray<E> sorted, Comparator<? super E> comparator) {
+        SortedList<E> list = new SortedList<>(comparator);
+
+        int total = sorted.size();
+        for (int i = 0; i < total; i++) {
+            if (sorted.get(i) == null) {
+                throw new NullPointerException();
+            }
+            if (i > 0 && comparator.compare(sorted.get(i - 1), sorted.get(i)) > 0) {
+                throw new IllegalArgumentException("Input is not sorted at index " + i);
+            }
+        }
+
+        if (total == 0) {
+            return list;
+        }
+
+        int leaves = (total + MAX_KEYS - 1) / MAX_KEYS;
+        Node[] level = new Node[leaves];
+        int[] counts = new int[leaves];
+
+        int index = 0;
+        Leaf prev = null;
+        for (int l = 0; l < leaves; l++) {
+            Leaf leaf = new Leaf();
+            leaf.n = total / leaves + (l < total % leaves ? 1 : 0);
+            for (int j = 0; j < leaf.n; j++) {
+                leaf.keys[j] = sorted.get(index++);
+            }
+
+            if (prev != null) {
+                prev.next = leaf;
+            }
+            prev = leaf;
+
+            level[l] = leaf;
+            counts[l] = leaf.n;
+        }
+
+        while (level.length > 1) {
+            int parents = (level.length + MAX_KEYS - 1) / MAX_KEYS;
+            Node[] up = new Node[parents];
+            int[] upCounts = new int[parents];
+
+            int c = 0;
+            for (int p = 0; p < parents; p++) {
+                Internal in = new Internal();
+                in.n = level.length / parents + (p < level.length % parents ? 1 : 0);
+                for (int j = 0; j < in.n; j++) {
+                    in.children[j] = level[c];
+                    in.counts[j] = counts[c];
+                    in.keys[j] = level[c].keys[0];
+                    upCounts[p] += counts[c];
+                    c++;
+                }
+
+                up[p] = in;
+            }
+
+            level = up;
+            counts = upCounts;
+        }
+
+        list.root = level[0];
+        list.size = total;
+
+        return list;
+    }
+
+    /**
+     * Inserts {@code e} at its sorted position, after any equal elements.
+     * 
+     * @param e element to be inserted
+     * @return true
+     */
+    public boolean add(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+
+        Node split = insert(root, e);
+        if (split != null) {
+            Internal newRoot = new Internal();
+            newRoot.children[0] = root;
+            newRoot.counts[0] = size + 1 - count(split);
+            newRoot.keys[0] = root.keys[0];
+            newRoot.children[1] = split;
+            newRoot.counts[1] = count(split);
+            newRoot.keys[1] = split.keys[0];
+            newRoot.n = 2;
+            root = newRoot;
+        }
+
+        size++;
+
+        return true;
+    }
+
+    /**
+     * Returns the element at position {@code index}.
+     * 
+     * @param index index of the element to return
+     * @return element at position {@code index}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkBounds(index);
+
+        Node node = root;
+        while (node instanceof Internal) {
+            Internal in = (Internal) node;
+            int i = 0;
+            while (index >= in.counts[i]) {
+                index -= in.counts[i];
+                i++;
+            }
+
+            node = in.children[i];
+        }
+
+        return (E) node.keys[index];
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code e} or -1 if this list doesn't contain it.
+     * 
+     * @param e element to search for
+     * @return index of the first occurrence of {@code e} or -1 if this list doesn't contain it
+     */
+    public int indexOf(E e) {
+        if (e == null) {
+            return -1;
+        }
+
+        int index = rank(e);
+        if (index < size && comparator.compare(get(index), e) == 0) {
+            return index;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains an element equal to {@code e} according to the comparator.
+     * 
+     * @param e element to search for
+     * @return true if this list contains {@code e}
+     */
+    public boolean contains(E e) {
+        return indexOf(e) >= 0;
+    }
+
+    /**
+     * Returns the number of elements strictly less than {@code e}, which is the
+     * index {@code e} would have if it were inserted before any equal elements.
+     * 
+     * @param e element to rank
+     * @return the number of elements less than {@code e}
+     */
+    public int rank(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+
+        int retVal = 0;
+        Node node = root;
+        while (node instanceof Internal) {
+            Internal in = (Internal) node;
+            int i = childIndex(in, e, false);
+            for (int j = 0; j < i; j++) {
+                retVal += in.counts[j];
+            }
+
+            node = in.children[i];
+        }
+
+        return retVal + search(node, e, false);
+    }
+
+    /**
+     * Removes the element at position {@code index}. Returns the element that was removed.
+     * 
+     * @param index index of the element to remove
+     * @return the element previously at position {@code index}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    public E remove(int index) {
+        checkBounds(index);
+
+        E retVal = removeAt(root, index);
+        size--;
+
+        if (root instanceof Internal && root.n == 1) {
+            root = ((Internal) root).children[0];
+        }
+
+        return retVal;
+    }
+
+    /**
+     * Removes the first occurrence of {@code e}.
+     * 
+     * @param e element to remove
+     * @return true if this list contained {@code e}
+     */
+    public boolean removeElement(E e) {
+        int index = indexOf(e);
+        if (index < 0) {
+            return false;
+        }
+
+        remove(index);
+
+        return true;
+    }
+
+    /**
+     * Returns the elements greater than or equal to {@code fromElement} and
+     * less than {@code toElement}, in order.
+     * 
+     * @param fromElement low endpoint, inclusive
+     * @param toElement high endpoint, exclusive
+     * @return the elements in the range
+     */
+    public Iterable<E> range(E fromElement, E toElement) {
+        int from = rank(fromElement);
+        int to = Math.max(from, rank(toElement));
+
+        return () -> new Itr(from, to);
+    }
+
+    /**
+     * Performs {@code action} for each element, in order. Walks the linked leaves
+     * directly instead of creating an iterator.
+     * 
+     * @param action action to perform
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Node node = root;
+        while (node instanceof Internal) {
+            node = ((Internal) node).children[0];
+        }
+
+        for (Leaf leaf = (Leaf) node; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.n; i++) {
+                action.accept((E) leaf.keys[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the estimated number of bytes used by this list's structure, not counting its elements.
+     * 
+     * @return estimated structural size in bytes
+     */
+    @Override
+    public long memoryFootprint() {
+        return MemoryLayout.shallowSizeOf(getClass()) + measure(root, false);
+    }
+
+    /**
+     * Returns the estimated number of bytes allocated for unused slots in the nodes.
+     * 
+     * @return estimated unused bytes
+     */
+    @Override
+    public long capacitySlack() {
+        return measure(root, true);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+
+        Iterator<E> it = iterator();
+        while (it.hasNext()) {
+            sb.append(it.next().toString());
+            if (it.hasNext()) {
+                sb.append(", ");
+            }
+        }
+
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     * 
+     * @return the number of elements in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no elements.
+     * 
+     * @return true if this list contains no elements
+     */
+    public boolean isEmpty() {
+        return size <= 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr(0, size);
+    }
+
+    /**
+     * Iterator over a range of positions. Walks the linked leaves.
+     */
+    private class Itr implements Iterator<E> {
+
+        /**
+         * Leaf holding the next element.
+         */
+        Leaf leaf;
+
+        /**
+         * Position of the next element in {@code leaf}.
+         */
+        int pos;
+
+        /**
+         * Number of elements left to return.
+         */
+        int remaining;
+
+        /**
+         * Constructor for the positions from {@code from} (inclusive) to {@code to} (exclusive).
+         * 
+         * @param from first position
+         * @param to end position
+         */
+        Itr(int from, int to) {
+            remaining = to - from;
+            if (remaining <= 0) {
+                return;
+            }
+
+            Node node = root;
+            while (node instanceof Internal) {
+                Internal in = (Internal) node;
+                int i = 0;
+                while (from >= in.counts[i]) {
+                    from -= in.counts[i];
+                    i++;
+                }
+
+                node = in.children[i];
+            }
+
+            leaf = (Leaf) node;
+            pos = from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            if (pos >= leaf.n) {
+                leaf = leaf.next;
+                pos = 0;
+            }
+
+            remaining--;
+
+            return (E) leaf.keys[pos++];
+        }
+    }
+
+    /**
+     * Inserts {@code e} below {@code node}. Returns the new right sibling if {@code node} was split.
+     * 
+     * @param node node to insert below
+     * @param e element to insert
+     * @return the new right sibling of {@code node} or null if it was not split
+     */
+    private Node insert(Node node, E e) {
+        if (node instanceof Leaf) {
+            int pos = search(node, e, true);
+            System.arraycopy(node.keys, pos, node.keys, pos + 1, node.n - pos);
+            node.keys[pos] = e;
+            node.n++;
+
+            return node.n > MAX_KEYS ? splitLeaf((Leaf) node) : null;
+        }
+
+        Internal in = (Internal) node;
+        int i = childIndex(in, e, true);
+        Node split = insert(in.children[i], e);
+        in.counts[i]++;
+
+        if (split != null) {
+            int moved = count(split);
+            in.counts[i] -= moved;
+
+            System.arraycopy(in.keys, i + 1, in.keys, i + 2, in.n - i - 1);
+            System.arraycopy(in.children, i + 1, in.children, i + 2, in.n - i - 1);
+            System.arraycopy(in.counts, i + 1, in.counts, i + 2, in.n - i - 1);
+            in.keys[i + 1] = split.keys[0];
+            in.children[i + 1] = split;
+            in.counts[i + 1] = moved;
+            in.n++;
+
+            if (in.n > MAX_KEYS) {
+                return splitInternal(in);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Moves the upper half of {@code leaf} into a new leaf linked after it.
+     * 
+     * @param leaf leaf to split
+     * @return the new leaf
+     */
+    private Leaf splitLeaf(Leaf leaf) {
+        Leaf right = new Leaf();
+        int mid = leaf.n / 2;
+
+        right.n = leaf.n - mid;
+        System.arraycopy(leaf.keys, mid, right.keys, 0, right.n);
+        clear(leaf.keys, mid, leaf.n);
+        leaf.n = mid;
+
+        right.next = leaf.next;
+        leaf.next = right;
+
+        return right;
+    }
+
+    /**
+     * Moves the upper half of {@code in} into a new internal node. The separator
+     * of the new node's first child becomes its {@code keys[0]}.
+     * 
+     * @param in node to split
+     * @return the new node
+     */
+    private Internal splitInternal(Internal in) {
+        Internal right = new Internal();
+        int mid = in.n / 2;
+
+        right.n = in.n - mid;
+        System.arraycopy(in.keys, mid, right.keys, 0, right.n);
+        System.arraycopy(in.children, mid, right.children, 0, right.n);
+        System.arraycopy(in.counts, mid, right.counts, 0, right.n);
+        clear(in.keys, mid, in.n);
+        clear(in.children, mid, in.n);
+        in.n = mid;
+
+        return right;
+    }
+
+    /**
+     * Removes the element at position {@code index} below {@code node},
+     * rebalancing any child that falls below {@code MIN_KEYS} entries.
+     * 
+     * @param node node to remove below
+     * @param index position relative to {@code node}
+     * @return the removed element
+     */
+    @SuppressWarnings("unchecked")
+    private E removeAt(Node node, int index) {
+        if (node instanceof Leaf) {
+            E retVal = (E) node.keys[index];
+            System.arraycopy(node.keys, index + 1, node.keys, index, node.n - index - 1);
+            node.keys[--node.n] = null;
+
+            return retVal;
+        }
+
+        Internal in = (Internal) node;
+        int i = 0;
+        while (index >= in.counts[i]) {
+            index -= in.counts[i];
+            i++;
+        }
+
+        E retVal = removeAt(in.children[i], index);
+        in.counts[i]--;
+
+        if (in.children[i].n < MIN_KEYS) {
+            rebalance(in, i);
+        }
+
+        return retVal;
+    }
+
+    /**
+     * Restores the minimum size of child {@code i} of {@code in} by borrowing
+     * an entry from a sibling or merging with one.
+     * 
+     * @param in parent node
+     * @param i index of the child that is too small
+     */
+    private void rebalance(Internal in, int i) {
+        if (i > 0 && in.children[i - 1].n > MIN_KEYS) {
+            borrowFromLeft(in, i);
+        } else if (i < in.n - 1 && in.children[i + 1].n > MIN_KEYS) {
+            borrowFromRight(in, i);
+        } else if (i > 0) {
+            merge(in, i - 1);
+        } else if (in.n > 1) {
+            merge(in, i);
+        }
+    }
+
+    /**
+     * Moves the last entry of child {@code i - 1} to the front of child {@code i}.
+     * 
+     * @param in parent node
+     * @param i index of the child that is too small
+     */
+    private void borrowFromLeft(Internal in, int i) {
+        Node left = in.children[i - 1];
+        Node child = in.children[i];
+        int last = left.n - 1;
+        int moved = 1;
+
+        System.arraycopy(child.keys, 0, child.keys, 1, child.n);
+        if (child instanceof Internal) {
+            Internal l = (Internal) left;
+            Internal c = (Internal) child;
+            System.arraycopy(c.children, 0, c.children, 1, c.n);
+            System.arraycopy(c.counts, 0, c.counts, 1, c.n);
+
+            moved = l.counts[last];
+            c.children[0] = l.children[last];
+            c.counts[0] = moved;
+            c.keys[1] = in.keys[i];
+            l.children[last] = null;
+        }
+
+        child.keys[0] = left.keys[last];
+        left.keys[last] = null;
+        left.n--;
+        child.n++;
+
+        in.keys[i] = child.keys[0];
+        in.counts[i - 1] -= moved;
+        in.counts[i] += moved;
+    }
+
+    /**
+     * Moves the first entry of child {@code i + 1} to the end of child {@code i}.
+     * 
+     * @param in parent node
+     * @param i index of the child that is too small
+     */
+    private void borrowFromRight(Internal in, int i) {
+        Node child = in.children[i];
+        Node right = in.children[i + 1];
+        int moved = 1;
+
+        if (child instanceof Internal) {
+            Internal c = (Internal) child;
+            Internal r = (Internal) right;
+
+            moved = r.counts[0];
+            c.children[c.n] = r.children[0];
+            c.counts[c.n] = moved;
+            c.keys[c.n] = in.keys[i + 1];
+
+            System.arraycopy(r.children, 1, r.children, 0, r.n - 1);
+            System.arraycopy(r.counts, 1, r.counts, 0, r.n - 1);
+            r.children[r.n - 1] = null;
+        } else {
+            child.keys[child.n] = right.keys[0];
+        }
+
+        System.arraycopy(right.keys, 1, right.keys, 0, right.n - 1);
+        right.keys[right.n - 1] = null;
+        right.n--;
+        child.n++;
+
+        in.keys[i + 1] = right.keys[0];
+        in.counts[i] += moved;
+        in.counts[i + 1] -= moved;
+    }
+
+    /**
+     * Merges child {@code i + 1} into child {@code i} and removes it from {@code in}.
+     * 
+     * @param in parent node
+     * @param i index of the left child
+     */
+    private void merge(Internal in, int i) {
+        Node left = in.children[i];
+        Node right = in.children[i + 1];
+
+        System.arraycopy(right.keys, 0, left.keys, left.n, right.n);
+        if (left instanceof Internal) {
+            Internal l = (Internal) left;
+            Internal r = (Internal) right;
+            System.arraycopy(r.children, 0, l.children, l.n, r.n);
+            System.arraycopy(r.counts, 0, l.counts, l.n, r.n);
+            l.keys[l.n] = in.keys[i + 1];
+        } else {
+            ((Leaf) left).next = ((Leaf) right).next;
+        }
+        left.n += right.n;
+
+        in.counts[i] += in.counts[i + 1];
+        System.arraycopy(in.keys, i + 2, in.keys, i + 1, in.n - i - 2);
+        System.arraycopy(in.children, i + 2, in.children, i + 1, in.n - i - 2);
+        System.arraycopy(in.counts, i + 2, in.counts, i + 1, in.n - i - 2);
+        in.keys[in.n - 1] = null;
+        in.children[in.n - 1] = null;
+        in.n--;
+    }
+
+    /**
+     * Returns the index of the child of {@code in} to descend into for {@code e}.
+     * With {@code upper} set, that is the last child whose separator is less than or equal to {@code e};
+     * otherwise the last child whose separator is strictly less than {@code e}.
+     * 
+     * @param in node to search
+     * @param e element to route
+     * @param upper whether to route past equal separators
+     * @return index of the child to descend into
+     */
+    @SuppressWarnings("unchecked")
+    private int childIndex(Internal in, E e, boolean upper) {
+        int lo = 1;
+        int hi = in.n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = comparator.compare((E) in.keys[mid], e);
+            if (c < 0 || (upper && c == 0)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo - 1;
+    }
+
+    /**
+     * Returns the position in leaf {@code node} of the first element greater than {@code e}
+     * if {@code upper} is set, or greater than or equal to {@code e} otherwise.
+     * 
+     * @param node leaf to search
+     * @param e element to search for
+     * @param upper whether to search past equal elements
+     * @return insertion position in {@code node}
+     */
+    @SuppressWarnings("unchecked")
+    private int search(Node node, E e, boolean upper) {
+        int lo = 0;
+        int hi = node.n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = comparator.compare((E) node.keys[mid], e);
+            if (c < 0 || (upper && c == 0)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    /**
+     * Returns the estimated size of {@code node} and every node below it, or only
+     * of their unused slots if {@code slackOnly} is set.
+     * 
+     * @param node node to measure
+     * @param slackOnly whether to count only unused slots
+     * @return estimated bytes
+     */
+    private static long measure(Node node, boolean slackOnly) {
+        int unused = node.keys.length - node.n;
+        if (node instanceof Leaf) {
+            return slackOnly
+                    ? (long) unused * MemoryLayout.REFERENCE_SIZE
+                    : MemoryLayout.shallowSizeOf(Leaf.class) + MemoryLayout.referenceArraySize(node.keys.length);
+        }
+
+        Internal in = (Internal) node;
+        long bytes = slackOnly
+                ? (long) unused * (2 * MemoryLayout.REFERENCE_SIZE + 4)
+                : MemoryLayout.shallowSizeOf(Internal.class)
+                        + 2 * MemoryLayout.referenceArraySize(in.keys.length)
+                        + MemoryLayout.intArraySize(in.counts.length);
+        for (int i = 0; i < in.n; i++) {
+            bytes += measure(in.children[i], slackOnly);
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Returns the number of elements below {@code node}.
+     * 
+     * @param node node to count
+     * @return the number of elements below {@code node}
+     */
+    private static int count(Node node) {
+        if (node instanceof Leaf) {
+            return node.n;
+        }
+
+        Internal in = (Internal) node;
+        int retVal = 0;
+        for (int i = 0; i < in.n; i++) {
+            retVal += in.counts[i];
+        }
+
+        return retVal;
+    }
+
+    /**
+     * Sets slots {@code from} (inclusive) to {@code to} (exclusive) of {@code a} to null.
+     * 
+     * @param a array to clear
+     * @param from first slot
+     * @param to end slot
+     */
+    private static void clear(Object[] a, int from, int to) {
+        for (int i = from; i < to; i++) {
+            a[i] = null;
+        }
+    }
+
+    /**
+     * Checks if {@code index} is out of range.
+     * 
+     * @param index index to check
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+     */
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package project.learnds.array;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DynamicArrayTest {
+
+    private DynamicArray<String> list;
+
+    @BeforeEach
+    void init() {
+        list = new DynamicArray<>();
+    }
+
+    @Test
+    void testIndexOfEmpty() {
+        assertEquals(-1, list.indexOf("a"));
+        assertEquals(-1, list.indexOf(null));
+    }
+
+    @Test
+    void testIndexOfFound() {
+        list.add("a");
+        list.add(null);
+        list.add("c");
+
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(1, list.indexOf(null));
+        assertEquals(2, list.indexOf(new String("c")));
+        assertEquals(-1, list.indexOf("d"));
+    }
+
+    @Test
+    void testIndexOfIdentity() {
+        String a = new String("a");
+        String b = new String("a");
+        list.add(a);
+        list.add(b);
+        list.add(null);
+
+        assertEquals(0, list.indexOf(b));
+        assertEquals(1, list.indexOfIdentity(b));
+        assertEquals(2, list.indexOfIdentity(null));
+        assertEquals(-1, list.indexOfIdentity(new String("a")));
+    }
+
+    @Test
+    void testSet() {
+        list.add("a");
+        list.add("b");
+
+        assertEquals("b", list.set(1, "c"));
+        assertEquals("c", list.get(1));
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            list.set(2, "d");
+        });
+    }
+
+    @Test
+    void testForEach() {
+        list.add("a");
+        list.add(null);
+        list.add("c");
+
+        List<String> out = new ArrayList<>();
+        list.forEach(out::add);
+        assertEquals(Arrays.asList("a", null, "c"), out);
+
+        out.clear();
+        list.forEach(0, 2, out::add);
+        assertEquals(Arrays.asList("a", null), out);
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            list.forEach(-1, 2, x -> { });
+        });
+    }
+
+    @Test
+    void testCursorReset() {
+        list.add("a");
+        list.add("b");
+
+        DynamicArray<String>.Cursor cursor = list.cursor();
+        assertEquals("a", cursor.next());
+        assertEquals("b", cursor.next());
+        assertEquals(false, cursor.hasNext());
+
+        cursor.reset();
+        assertEquals("a", cursor.next());
+    }
+
+    @Test
+    void testAutoTrim() {
+        list.setAutoTrimThreshold(0.75);
+        for (int i = 0; i < 64; i++) {
+            list.add("x");
+        }
+        assertEquals(64, list.capacity());
+
+        while (list.size() > 15) {
+            list.remove(0);
+        }
+        assertEquals(list.size(), list.capacity());
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            list.setAutoTrimThreshold(0.25);
+        });
+    }
+
+    @Test
+    void testCopyConstructors() {
+        list.add("a");
+        list.add(null);
+        list.add("c");
+
+        DynamicArray<String> copy = new DynamicArray<>(list);
+        assertEquals(3, copy.size());
+        assertEquals(3, copy.capacity());
+        assertEquals("[a, null, c]", copy.toString());
+
+        copy.set(0, "z");
+        assertEquals("a", list.get(0));
+
+        DynamicArray<String> fromList = new DynamicArray<>(Arrays.asList("x", "y"));
+        assertEquals(2, fromList.capacity());
+        assertEquals("[x, y]", fromList.toString());
+    }
+
+    @Test
+    void testCopyConstructorCopiesSubtypeArray() {
+        // a collection whose toArray returns String[] instead of Object[]
+        List<String> strings = new ArrayList<>(Arrays.asList("a", "b")) {
+            @Override
+            public Object[] toArray() {
+                return new String[] { "a", "b" };
+            }
+        };
+
+        DynamicArray<Object> copy = new DynamicArray<>(strings);
+        copy.set(0, 1);
+        assertEquals("[1, b]", copy.toString());
+    }
+
+    @Test
+    void testFactories() {
+        String[] source = { "a", "b" };
+        DynamicArray<String> fromArray = DynamicArray.from(source);
+        source[0] = "z";
+
+        assertEquals("a", fromArray.get(0));
+        assertEquals(2, fromArray.capacity());
+        assertEquals("[1, 2, 3]", DynamicArray.of(1, 2, 3).toString());
+        assertEquals(0, DynamicArray.of().size());
+    }
+
+    @Test
+    void testAddAll() {
+        list.add("a");
+        list.enableChangeLog(16);
+
+        assertEquals(true, list.addAll(DynamicArray.of("b", "c")));
+        assertEquals(true, list.addAll(Arrays.asList("d")));
+        assertEquals(false, list.addAll(new ArrayList<>()));
+        assertEquals("[a, b, c, d]", list.toString());
+        assertEquals(3, list.changeLog().position());
+
+        // adding a list to itself copies its current contents once
+        list.addAll(list);
+        assertEquals("[a, b, c, d, a, b, c, d]", list.toString());
+    }
+
+    @Test
+    void testEnsureCapacity() {
+        list.ensureCapacity(100);
+        assertEquals(100, list.capacity());
+
+        list.ensureCapacity(10);
+        assertEquals(100, list.capacity());
+    }
+
+    @Test
+    void testToArray() {
+        list.add("a");
+        list.add("b");
+
+        assertArrayEquals(new Object[] { "a", "b" }, list.toArray());
+
+        String[] small = list.toArray(new String[0]);
+        assertArrayEquals(new String[] { "a", "b" }, small);
+
+        String[] large = { "x", "x", "x", "x" };
+        assertSame(large, list.toArray(large));
+        assertArrayEquals(new String[] { "a", "b", null, "x" }, large);
+    }
+
+    @Test
+    void testAsList() {
+        list.add("a");
+        list.add("b");
+
+        List<String> view = list.asList();
+        assertEquals(Arrays.asList("a", "b"), view);
+        assertEquals(true, view instanceof RandomAccess);
+
+        view.add("c");
+        view.set(0, "z");
+        assertEquals("[z, b, c]", list.toString());
+
+        list.remove(1);
+        assertEquals(Arrays.asList("z", "c"), new ArrayList<>(view));
+        assertEquals(1, view.indexOf("c"));
+        assertEquals(true, view.contains("z"));
+    }
+}
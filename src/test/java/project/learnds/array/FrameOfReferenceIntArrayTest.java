@@ -0,0 +1,96 @@
+package project.learnds.array;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class FrameOfReferenceIntArrayTest {
+
+    @Test
+    void testEmpty() {
+        FrameOfReferenceIntArray array = new FrameOfReferenceIntArray(new int[0]);
+
+        assertTrue(array.isEmpty());
+        assertArrayEquals(new int[0], array.toIntArray());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            array.get(0);
+        });
+    }
+
+    @Test
+    void testSortedValues() {
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000_000 + i * 7;
+        }
+
+        FrameOfReferenceIntArray array = new FrameOfReferenceIntArray(values);
+        assertEquals(1000, array.size());
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], array.get(i));
+        }
+        assertArrayEquals(values, array.toIntArray());
+    }
+
+    @Test
+    void testExtremeValues() {
+        int[] values = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+
+        FrameOfReferenceIntArray array = new FrameOfReferenceIntArray(values);
+        assertArrayEquals(values, array.toIntArray());
+    }
+
+    @Test
+    void testDecodeAcrossBlocks() {
+        Random random = new Random(7);
+        int[] values = new int[700];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1 << 12) - 2048;
+        }
+
+        FrameOfReferenceIntArray array = new FrameOfReferenceIntArray(values);
+        int[] dest = new int[300];
+        array.decode(100, dest, 0, 300);
+        for (int i = 0; i < dest.length; i++) {
+            assertEquals(values[100 + i], dest[i]);
+        }
+    }
+
+    @Test
+    void testIndexOf() {
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 2;
+        }
+
+        FrameOfReferenceIntArray array = new FrameOfReferenceIntArray(values);
+        assertEquals(0, array.indexOf(0));
+        assertEquals(500, array.indexOf(1000));
+        assertEquals(999, array.indexOf(1998));
+        assertEquals(-1, array.indexOf(1001));
+        assertEquals(-1, array.indexOf(-2));
+        assertEquals(-1, array.indexOf(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testForEach() {
+        int[] values = new int[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+
+        FrameOfReferenceIntArray array = new FrameOfReferenceIntArray(values);
+        long[] sum = new long[1];
+        array.forEach(x -> sum[0] += x);
+        assertEquals(124_750, sum[0]);
+
+        sum[0] = 0;
+        array.forEach(100, 300, x -> sum[0] += x);
+        assertEquals(39_900, sum[0]);
+    }
+}
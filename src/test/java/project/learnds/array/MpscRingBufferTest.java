@@ -0,0 +1,101 @@
+package project.learnds.array;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MpscRingBufferTest {
+
+    private MpscRingBuffer<Integer> ring;
+
+    @BeforeEach
+    void init() {
+        ring = new MpscRingBuffer<>(4);
+    }
+
+    @Test
+    void testOfferPoll() {
+        assertTrue(ring.offer(1));
+        assertTrue(ring.offer(2));
+        assertEquals(2, ring.size());
+
+        assertEquals(1, ring.poll());
+        assertEquals(2, ring.poll());
+        assertNull(ring.poll());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void testOfferFull() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i));
+        }
+
+        assertFalse(ring.offer(4));
+        assertEquals(0, ring.poll());
+        assertTrue(ring.offer(4));
+    }
+
+    @Test
+    void testOfferNull() {
+        assertThrows(NullPointerException.class, () -> {
+            ring.offer((Integer) null);
+        });
+    }
+
+    @Test
+    void testOfferBatchAndDrain() {
+        assertEquals(4, ring.offer(new Integer[] {1, 2, 3, 4, 5}));
+
+        List<Integer> out = new ArrayList<>();
+        assertEquals(4, ring.drain(out::add, 10));
+        assertEquals(List.of(1, 2, 3, 4), out);
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 250_000;
+        MpscRingBuffer<Integer> shared = new MpscRingBuffer<>(1024, WaitStrategy.YIELD);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            Thread t = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    shared.put(id * perProducer + i);
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+
+        // elements from the same producer must arrive in order
+        int[] last = new int[producers];
+        for (int p = 0; p < producers; p++) {
+            last[p] = -1;
+        }
+
+        for (int i = 0; i < producers * perProducer; i++) {
+            int value = shared.take();
+            int id = value / perProducer;
+            int seq = value % perProducer;
+            assertEquals(last[id] + 1, seq);
+            last[id] = seq;
+        }
+
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertTrue(shared.isEmpty());
+    }
+}
@@ -0,0 +1,130 @@
+package project.learnds.array;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PackedIntArrayTest {
+
+    private PackedIntArray array;
+
+    @BeforeEach
+    void init() {
+        array = new PackedIntArray();
+    }
+
+    @Test
+    void testAddGet() {
+        array.add(0);
+        array.add(1);
+        array.add(1);
+
+        assertEquals(3, array.size());
+        assertEquals(1, array.bitsPerValue());
+        assertEquals(0, array.get(0));
+        assertEquals(1, array.get(2));
+    }
+
+    @Test
+    void testWidening() {
+        array.add(1);
+        array.add(5);
+        assertEquals(3, array.bitsPerValue());
+
+        array.add(1_000_000);
+        assertEquals(20, array.bitsPerValue());
+
+        array.add(-7);
+        assertEquals(32, array.bitsPerValue());
+        assertArrayEquals(new int[] {1, 5, 1_000_000, -7}, array.toIntArray());
+    }
+
+    @Test
+    void testSet() {
+        array.add(1);
+        array.add(2);
+
+        assertEquals(2, array.set(1, 300));
+        assertEquals(300, array.get(1));
+        assertEquals(1, array.get(0));
+    }
+
+    @Test
+    void testGetInvalidIndex() {
+        array.add(1);
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            array.get(-1);
+        });
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            array.get(1);
+        });
+    }
+
+    @Test
+    void testDecode() {
+        for (int i = 0; i < 10; i++) {
+            array.add(i * 3);
+        }
+
+        int[] dest = new int[5];
+        array.decode(2, dest, 1, 4);
+        assertArrayEquals(new int[] {0, 6, 9, 12, 15}, dest);
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            array.decode(8, dest, 0, 3);
+        });
+    }
+
+    @Test
+    void testRandomValues() {
+        Random random = new Random(42);
+        int[] expected = new int[5000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt(1 << random.nextInt(31));
+            array.add(expected[i]);
+        }
+
+        assertArrayEquals(expected, array.toIntArray());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], array.get(i));
+        }
+    }
+
+    @Test
+    void testIndexOf() {
+        array.add(3);
+        array.add(7);
+        array.add(3);
+
+        assertEquals(0, array.indexOf(3));
+        assertEquals(1, array.indexOf(7));
+        assertEquals(-1, array.indexOf(4));
+        assertEquals(-1, array.indexOf(1 << 20));
+        assertEquals(-1, array.indexOf(-1));
+
+        array.add(-1);
+        assertEquals(3, array.indexOf(-1));
+    }
+
+    @Test
+    void testForEach() {
+        for (int i = 0; i < 100; i++) {
+            array.add(i);
+        }
+
+        long[] sum = new long[1];
+        array.forEach(x -> sum[0] += x);
+        assertEquals(4950, sum[0]);
+
+        sum[0] = 0;
+        array.forEach(10, 20, x -> sum[0] += x);
+        assertEquals(145, sum[0]);
+    }
+}
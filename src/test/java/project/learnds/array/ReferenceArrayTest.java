@@ -0,0 +1,146 @@
+package project.learnds.array;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReferenceArrayTest {
+
+    private ReferenceArray<String> list;
+
+    @BeforeEach
+    void init() {
+        list = new ReferenceArray<>(ReferenceStrength.WEAK);
+    }
+
+    @Test
+    void testAddGet() {
+        String a = "a";
+        String b = "b";
+
+        assertEquals(0, list.add(a));
+        assertEquals(1, list.add(b));
+        assertEquals(2, list.size());
+        assertEquals("a", list.get(0));
+        assertEquals("b", list.get(1));
+        assertEquals("[a, b]", list.toString());
+    }
+
+    @Test
+    void testNullNotAllowed() {
+        assertThrows(NullPointerException.class, () -> {
+            list.add(null);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            new ReferenceArray<String>(null, 4);
+        });
+    }
+
+    @Test
+    void testOutOfBounds() {
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            list.get(0);
+        });
+
+        list.add("a");
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            list.remove(1);
+        });
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            list.get(-1);
+        });
+    }
+
+    @Test
+    void testRemoveKeepsIndicesStable() {
+        list.add("a");
+        list.add("b");
+        list.add("c");
+
+        assertEquals("b", list.remove(1));
+        assertNull(list.remove(1));
+        assertEquals(2, list.size());
+        assertEquals(1, list.freeSlots());
+        assertEquals("c", list.get(2));
+        assertEquals("[a, null, c]", list.toString());
+
+        // the freed index is reused before the table grows
+        assertEquals(1, list.add("d"));
+        assertEquals(0, list.freeSlots());
+        assertEquals(3, list.add("e"));
+        assertEquals(0, list.clearedCount());
+    }
+
+    @Test
+    void testGrow() {
+        list = new ReferenceArray<>(ReferenceStrength.SOFT, 0);
+        List<String> strong = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String s = Integer.toString(i);
+            strong.add(s);
+            assertEquals(i, list.add(s));
+        }
+
+        assertEquals(100, list.size());
+        assertEquals(128, list.capacity());
+        assertEquals("57", list.get(57));
+    }
+
+    @Test
+    void testForEach() {
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        list.remove(0);
+
+        StringBuilder sb = new StringBuilder();
+        list.forEach((e, i) -> sb.append(i).append(e));
+        assertEquals("1b2c", sb.toString());
+    }
+
+    @Test
+    void testReclaimedSlotsAreExpunged() throws InterruptedException {
+        String kept = new String("kept");
+        list.add(new String("a"));
+        list.add(kept);
+        list.add(new String("c"));
+
+        for (int i = 0; i < 100 && list.clearedCount() < 2; i++) {
+            System.gc();
+            Thread.sleep(10);
+            list.expunge();
+        }
+
+        assertEquals(2, list.clearedCount());
+        assertEquals(1, list.size());
+        assertEquals(2, list.freeSlots());
+        assertNull(list.get(0));
+        assertSame(kept, list.get(1));
+
+        int index = list.add(new String("d"));
+        assertTrue(index == 0 || index == 2);
+        assertEquals(2, list.size());
+        assertSame(kept, list.get(1));
+
+        // kept is otherwise unused after its add, so the JIT may let it be collected early
+        Reference.reachabilityFence(kept);
+    }
+
+    @Test
+    void testMemoryFootprint() {
+        long empty = list.memoryFootprint();
+        list.add("a");
+
+        assertTrue(list.memoryFootprint() > empty);
+        assertTrue(list.capacitySlack() < new ReferenceArray<String>(ReferenceStrength.WEAK).capacitySlack());
+    }
+}
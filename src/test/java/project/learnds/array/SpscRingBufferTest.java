@@ -0,0 +1,123 @@
+package project.learnds.array;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SpscRingBufferTest {
+
+    private SpscRingBuffer<Integer> ring;
+
+    @BeforeEach
+    void init() {
+        ring = new SpscRingBuffer<>(4);
+    }
+
+    @Test
+    void testCapacityRoundedUp() {
+        assertEquals(4, ring.capacity());
+        assertEquals(8, new SpscRingBuffer<Integer>(5).capacity());
+        assertEquals(1, new SpscRingBuffer<Integer>(1).capacity());
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            new SpscRingBuffer<Integer>(0);
+        });
+    }
+
+    @Test
+    void testOfferPoll() {
+        assertTrue(ring.offer(1));
+        assertTrue(ring.offer(2));
+        assertEquals(2, ring.size());
+
+        assertEquals(1, ring.poll());
+        assertEquals(2, ring.poll());
+        assertNull(ring.poll());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void testOfferFull() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i));
+        }
+
+        assertFalse(ring.offer(4));
+        assertEquals(0, ring.poll());
+        assertTrue(ring.offer(4));
+    }
+
+    @Test
+    void testOfferNull() {
+        assertThrows(NullPointerException.class, () -> {
+            ring.offer((Integer) null);
+        });
+
+        assertThrows(NullPointerException.class, () -> {
+            ring.offer(new Integer[] {1, null});
+        });
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void testOfferBatchPartial() {
+        ring.offer(0);
+
+        assertEquals(3, ring.offer(new Integer[] {1, 2, 3, 4, 5}));
+        assertEquals(4, ring.size());
+    }
+
+    @Test
+    void testDrain() {
+        ring.offer(new Integer[] {1, 2, 3});
+
+        List<Integer> out = new ArrayList<>();
+        assertEquals(2, ring.drain(out::add, 2));
+        assertEquals(List.of(1, 2), out);
+        assertEquals(1, ring.drain(out::add, 10));
+        assertEquals(List.of(1, 2, 3), out);
+        assertEquals(0, ring.drain(out::add, 10));
+
+        ring.offer(4);
+        assertEquals(0, ring.drain(out::add, -1));
+        assertEquals(1, ring.size());
+    }
+
+    @Test
+    void testWrapAround() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(ring.offer(i));
+            assertTrue(ring.offer(i + 1));
+            assertEquals(i, ring.poll());
+            assertEquals(i + 1, ring.poll());
+        }
+    }
+
+    @Test
+    void testConcurrentProducerConsumer() throws InterruptedException {
+        int count = 1_000_000;
+        SpscRingBuffer<Integer> shared = new SpscRingBuffer<>(1024, WaitStrategy.YIELD);
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                shared.put(i);
+            }
+        });
+        producer.start();
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, shared.take());
+        }
+
+        producer.join();
+        assertTrue(shared.isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package project.learnds.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LfuCacheTest {
+
+    private LfuCache<Integer, String> cache;
+
+    @BeforeEach
+    void init() {
+        cache = new LfuCache<>(3);
+    }
+
+    @Test
+    void testEvictsLeastFrequentlyUsed() {
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.get(1);
+        cache.get(1);
+        cache.get(3);
+        cache.put(4, "d");
+
+        assertFalse(cache.containsKey(2));
+        assertTrue(cache.containsKey(1));
+        assertTrue(cache.containsKey(3));
+        assertTrue(cache.containsKey(4));
+    }
+
+    @Test
+    void testTieEvictsLeastRecentlyUsed() {
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.put(4, "d");
+
+        assertFalse(cache.containsKey(1));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void testEvictionOrder() {
+        List<Integer> evicted = new ArrayList<>();
+        LfuCache<Integer, String> lfu = new LfuCache<>(2, (k, v) -> 1, (k, v) -> evicted.add(k));
+
+        lfu.put(1, "a");
+        lfu.get(1);
+        lfu.put(2, "b");
+        lfu.put(3, "c");
+        lfu.get(3);
+        lfu.get(3);
+        lfu.put(4, "d");
+
+        assertEquals(List.of(2, 1), evicted);
+        assertTrue(lfu.containsKey(4));
+        assertEquals(2, lfu.stats().evictions());
+    }
+
+    @Test
+    void testRemoveAndReinsert() {
+        cache.put(1, "a");
+        cache.get(1);
+        cache.remove(1);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.get(2);
+        cache.put(3, "c");
+        cache.put(4, "d");
+
+        assertFalse(cache.containsKey(1));
+        assertTrue(cache.containsKey(2));
+        assertTrue(cache.containsKey(3));
+    }
+}
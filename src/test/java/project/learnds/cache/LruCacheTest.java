@@ -0,0 +1,120 @@
+package project.learnds.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    private LruCache<Integer, String> cache;
+
+    @BeforeEach
+    void init() {
+        cache = new LruCache<>(3);
+    }
+
+    @Test
+    void testPutGet() {
+        assertNull(cache.put(1, "a"));
+        assertEquals("a", cache.put(1, "b"));
+        assertEquals("b", cache.get(1));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testNullKeyOrValue() {
+        assertThrows(NullPointerException.class, () -> {
+            cache.put(null, "a");
+        });
+
+        assertThrows(NullPointerException.class, () -> {
+            cache.put(1, null);
+        });
+
+        assertThrows(NullPointerException.class, () -> {
+            cache.containsKey(null);
+        });
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.get(1);
+        cache.put(4, "d");
+
+        assertFalse(cache.containsKey(2));
+        assertTrue(cache.containsKey(1));
+        assertTrue(cache.containsKey(3));
+        assertTrue(cache.containsKey(4));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void testRemove() {
+        cache.put(1, "a");
+        cache.put(2, "b");
+
+        assertEquals("a", cache.remove(1));
+        assertNull(cache.remove(1));
+        assertEquals(1, cache.size());
+
+        cache.put(3, "c");
+        cache.put(4, "d");
+        assertEquals(0, cache.stats().evictions());
+    }
+
+    @Test
+    void testWeightBounded() {
+        List<Integer> evicted = new ArrayList<>();
+        LruCache<Integer, String> weighted = new LruCache<>(5, (k, v) -> v.length(), (k, v) -> evicted.add(k));
+
+        weighted.put(1, "aa");
+        weighted.put(2, "bb");
+        weighted.put(3, "ccc");
+
+        assertEquals(List.of(1), evicted);
+        assertEquals(5, weighted.weight());
+        assertEquals(2, weighted.size());
+
+        weighted.put(4, "dddddd");
+        assertEquals(List.of(1, 2, 3, 4), evicted);
+        assertTrue(weighted.isEmpty());
+    }
+
+    @Test
+    void testStats() {
+        cache.put(1, "a");
+        cache.get(1);
+        cache.get(2);
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.put(4, "d");
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.evictions());
+    }
+
+    @Test
+    void testClear() {
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.clear();
+
+        assertTrue(cache.isEmpty());
+        assertEquals(0, cache.weight());
+        cache.put(3, "c");
+        assertEquals("c", cache.get(3));
+    }
+}
@@ -0,0 +1,54 @@
+package project.learnds.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SegmentedCacheTest {
+
+    @Test
+    void testPutGetRemove() {
+        SegmentedCache<Integer, String> cache = new SegmentedCache<>(4, () -> new LruCache<>(16));
+
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "v" + i);
+        }
+
+        assertEquals(10, cache.size());
+        assertEquals("v3", cache.get(3));
+        assertEquals("v3", cache.remove(3));
+        assertEquals(9, cache.size());
+    }
+
+    @Test
+    void testConcurrentAccess() throws InterruptedException {
+        SegmentedCache<Integer, Integer> cache = new SegmentedCache<>(8, () -> new LruCache<>(64));
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    int key = (i * 31 + offset) % 1000;
+                    if (cache.get(key) == null) {
+                        cache.put(key, key);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(cache.size() <= 8 * 64);
+        CacheStats stats = cache.stats();
+        assertEquals(400_000, stats.hits() + stats.misses());
+    }
+}
@@ -0,0 +1,202 @@
+package project.learnds.changelog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import project.learnds.array.DynamicArray;
+import project.learnds.linkedlist.DoublyLinkedList;
+import project.learnds.linkedlist.SinglyLinkedList;
+
+public class ChangeLogTest {
+
+    /**
+     * Applies {@code change} to {@code replica}.
+     */
+    private static void apply(List<Integer> replica, Change<Integer> change) {
+        for (int i = 0; i < change.count(); i++) {
+            switch (change.type()) {
+                case ADD:
+                    replica.add(change.index() + i, change.get(i));
+                    break;
+                case REMOVE:
+                    assertEquals(change.get(i), replica.remove(change.index()));
+                    break;
+                case SET:
+                    replica.set(change.index() + i, change.get(i));
+                    break;
+            }
+        }
+    }
+
+    @Test
+    void testCoalescesAppends() {
+        DynamicArray<Integer> list = new DynamicArray<>();
+        ChangeLog<Integer>.Cursor cursor = list.enableChangeLog(16).subscribe();
+
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        list.remove(0);
+        list.remove(0);
+        list.set(0, 9);
+
+        List<Change<Integer>> changes = new ArrayList<>();
+        assertEquals(6, cursor.drain(changes::add, 100));
+        assertEquals(3, changes.size());
+        assertEquals("ADD@0[1, 2, 3]", changes.get(0).toString());
+        assertEquals("REMOVE@0[1, 2]", changes.get(1).toString());
+        assertEquals("SET@0[9]", changes.get(2).toString());
+        assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    void testDrainNegativeLimit() {
+        DynamicArray<Integer> list = new DynamicArray<>();
+        ChangeLog<Integer>.Cursor cursor = list.enableChangeLog(16).subscribe();
+        list.add(1);
+
+        List<Change<Integer>> changes = new ArrayList<>();
+        assertEquals(0, cursor.drain(changes::add, -1));
+        assertEquals(0, changes.size());
+        assertTrue(cursor.hasNext());
+    }
+
+    @Test
+    void testSubscribeSeesOnlyLaterChanges() {
+        DynamicArray<Integer> list = new DynamicArray<>();
+        ChangeLog<Integer> log = list.enableChangeLog(16);
+        list.add(1);
+
+        ChangeLog<Integer>.Cursor cursor = log.subscribe();
+        assertFalse(cursor.hasNext());
+
+        list.add(2);
+        assertTrue(cursor.hasNext());
+    }
+
+    @Test
+    void testOverrun() {
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        ChangeLog<Integer>.Cursor cursor = list.enableChangeLog(4).subscribe();
+
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+
+        assertTrue(cursor.isOverrun());
+        assertThrows(IllegalStateException.class, () -> {
+            cursor.drain(c -> { }, 10);
+        });
+
+        cursor.resync();
+        assertFalse(cursor.isOverrun());
+        assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        assertEquals(null, new DynamicArray<Integer>().changeLog());
+        assertEquals(null, new SinglyLinkedList<Integer>().changeLog());
+        assertEquals(null, new DoublyLinkedList<Integer>().changeLog());
+    }
+
+    @Test
+    void testReplicaDynamicArray() {
+        DynamicArray<Integer> list = new DynamicArray<>();
+        List<Integer> replica = new ArrayList<>();
+        ChangeLog<Integer>.Cursor cursor = list.enableChangeLog(64).subscribe();
+
+        Random random = new Random(1);
+        for (int step = 0; step < 10_000; step++) {
+            int op = random.nextInt(4);
+            if (op < 2 || list.isEmpty()) {
+                list.add(random.nextInt(100));
+            } else if (op == 2) {
+                list.remove(random.nextInt(list.size()));
+            } else {
+                list.set(random.nextInt(list.size()), random.nextInt(100));
+            }
+
+            if (step % 32 == 0) {
+                cursor.drain(c -> apply(replica, c), Integer.MAX_VALUE);
+            }
+        }
+        cursor.drain(c -> apply(replica, c), Integer.MAX_VALUE);
+
+        assertEquals(replica.size(), list.size());
+        for (int i = 0; i < replica.size(); i++) {
+            assertEquals(replica.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    void testReplicaDoublyLinkedList() {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        List<Integer> replica = new ArrayList<>();
+        ChangeLog<Integer>.Cursor cursor = list.enableChangeLog(64).subscribe();
+
+        DoublyLinkedList.Node<Integer> first = list.addNode(0);
+        list.addNodeFirst(1);
+        DoublyLinkedList.Node<Integer> second = list.addNodeAfter(first, 2);
+        list.add(3);
+        list.moveToEnd(first);
+        list.set(1, 4);
+        list.unlink(second);
+        list.remove(0);
+
+        cursor.drain(c -> apply(replica, c), Integer.MAX_VALUE);
+
+        assertEquals(replica.size(), list.size());
+        for (int i = 0; i < replica.size(); i++) {
+            assertEquals(replica.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    void testReplicaListViewIterators() {
+        SinglyLinkedList<Integer> singly = new SinglyLinkedList<>();
+        DoublyLinkedList<Integer> doubly = new DoublyLinkedList<>();
+        assertReplicatesIterator(singly.asList(), singly.enableChangeLog(64).subscribe());
+        assertReplicatesIterator(doubly.asList(), doubly.enableChangeLog(64).subscribe());
+    }
+
+    /**
+     * Mutates {@code view} through list iterators and checks the change log replays to the same list.
+     */
+    private static void assertReplicatesIterator(List<Integer> view, ChangeLog<Integer>.Cursor cursor) {
+        List<Integer> replica = new ArrayList<>();
+
+        Random random = new Random(1);
+        for (int round = 0; round < 200; round++) {
+            ListIterator<Integer> it = view.listIterator(random.nextInt(view.size() + 1));
+            for (int step = 0; step < 20; step++) {
+                int op = random.nextInt(5);
+                if (op == 0 && it.hasNext()) {
+                    it.next();
+                } else if (op == 1 && it.hasPrevious()) {
+                    it.previous();
+                } else if (op == 2 || view.size() < 4) {
+                    it.add(random.nextInt(100));
+                } else if (op == 3 && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                } else if (it.hasPrevious()) {
+                    it.previous();
+                    it.set(random.nextInt(100));
+                }
+            }
+            cursor.drain(c -> apply(replica, c), Integer.MAX_VALUE);
+
+            assertEquals(replica, view);
+        }
+    }
+}
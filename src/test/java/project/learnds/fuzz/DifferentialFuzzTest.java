@@ -0,0 +1,252 @@
+package project.learnds.fuzz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import project.learnds.array.DynamicArray;
+import project.learnds.cache.CacheStats;
+import project.learnds.cache.LruCache;
+import project.learnds.cache.SegmentedCache;
+import project.learnds.linkedlist.DoublyLinkedList;
+import project.learnds.linkedlist.SinglyLinkedList;
+import project.learnds.tree.SortedList;
+
+/**
+ * Replays random operation sequences against each collection and a {@code java.util}
+ * reference. The number of operations per collection can be raised with the
+ * {@code learnds.fuzz.ops} system property.
+ */
+public class DifferentialFuzzTest {
+
+    private static final long OPS = Long.getLong("learnds.fuzz.ops", 1_000_000L);
+
+    private static final long SEED = Long.getLong("learnds.fuzz.seed", 20240601L);
+
+    private static final int OPS_PER_SEQUENCE = 1000;
+
+    /**
+     * Size bound of the large runs. Big enough for multi-level B+ tree splits and merges.
+     */
+    private static final int LARGE_SIZE = 10_000;
+
+    /**
+     * Operations per sequence of the large runs, enough to grow past {@code LARGE_SIZE} and shrink again.
+     */
+    private static final int LARGE_OPS_PER_SEQUENCE = 50_000;
+
+    @Test
+    void testDynamicArray() {
+        new ListFuzzer("DynamicArray", () -> ListSubject.of(new DynamicArray<>(0)),
+                ListSubject::arrayList, true, true).run(SEED, OPS, OPS_PER_SEQUENCE);
+    }
+
+    @Test
+    void testDynamicArrayLarge() {
+        // auto trim makes long shrinking runs shrink the array, so regrowth is exercised too
+        new ListFuzzer("DynamicArray (large)", () -> {
+            DynamicArray<Integer> list = new DynamicArray<>(0);
+            list.setAutoTrimThreshold(0.75);
+            return ListSubject.of(list);
+        }, ListSubject::arrayList, true, true).run(SEED, Math.max(OPS / 4, LARGE_OPS_PER_SEQUENCE),
+                LARGE_OPS_PER_SEQUENCE, LARGE_SIZE);
+    }
+
+    @Test
+    void testSinglyLinkedList() {
+        new ListFuzzer("SinglyLinkedList", () -> ListSubject.of(new SinglyLinkedList<>()),
+                ListSubject::arrayList, true, true).run(SEED, OPS, OPS_PER_SEQUENCE);
+    }
+
+    @Test
+    void testDoublyLinkedList() {
+        new ListFuzzer("DoublyLinkedList", () -> ListSubject.of(new DoublyLinkedList<>()),
+                ListSubject::arrayList, true, true).run(SEED, OPS, OPS_PER_SEQUENCE);
+    }
+
+    @Test
+    void testSortedList() {
+        new ListFuzzer("SortedList", () -> ListSubject.of(new SortedList<>()),
+                ListSubject::sortedArrayList, false, false).run(SEED, OPS, OPS_PER_SEQUENCE);
+    }
+
+    @Test
+    void testSortedListLarge() {
+        new ListFuzzer("SortedList (large)", () -> ListSubject.of(new SortedList<>()),
+                ListSubject::sortedArrayList, false, false).run(SEED, Math.max(OPS / 4, LARGE_OPS_PER_SEQUENCE),
+                        LARGE_OPS_PER_SEQUENCE, LARGE_SIZE);
+    }
+
+    @Test
+    void testShrinkFindsMinimalSequence() {
+        // a list that loses every element after the third add
+        ListFuzzer fuzzer = new ListFuzzer("broken", () -> new ListSubject() {
+            private final List<Integer> list = new ArrayList<>();
+            private int adds;
+
+            public void add(Integer e) {
+                if (++adds != 3) {
+                    list.add(e);
+                }
+            }
+            public Integer get(int index) { return list.get(index); }
+            public int indexOf(Integer e) { return list.indexOf(e); }
+            public Integer remove(int index) { return list.remove(index); }
+            public Integer set(int index, Integer e) { return list.set(index, e); }
+            public int size() { return list.size(); }
+            public Iterable<Integer> iterable() { return list; }
+        }, ListSubject::arrayList, false, true);
+
+        List<ListFuzzer.Op> ops = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ops.add(new ListFuzzer.Op(ListFuzzer.Kind.ADD, 0, i));
+            ops.add(new ListFuzzer.Op(ListFuzzer.Kind.GET, 0, null));
+        }
+
+        List<ListFuzzer.Op> minimal = fuzzer.shrink(ops);
+        assertEquals("[add(0), add(0), add(0)]", minimal.toString());
+    }
+
+    @Test
+    void testSegmentedCacheConcurrent() throws InterruptedException {
+        int threads = 4;
+        int opsPerThread = (int) Math.min(OPS / threads, 250_000);
+        // large enough that nothing is evicted, so each thread's view must match its own model
+        SegmentedCache<Integer, Integer> cache = new SegmentedCache<>(8, () -> new LruCache<>(1 << 16));
+
+        List<Map<Integer, Integer>> models = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            Map<Integer, Integer> model = new HashMap<>();
+            models.add(model);
+
+            Thread worker = new Thread(() -> {
+                Random random = new Random(SEED + id);
+                try {
+                    for (int i = 0; i < opsPerThread; i++) {
+                        // each thread owns the keys congruent to its id
+                        int key = random.nextInt(1000) * threads + id;
+                        int roll = random.nextInt(3);
+                        if (roll == 0) {
+                            assertEquals(model.put(key, i), cache.put(key, i));
+                        } else if (roll == 1) {
+                            assertEquals(model.get(key), cache.get(key));
+                        } else {
+                            assertEquals(model.remove(key), cache.remove(key));
+                        }
+                    }
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertTrue(errors.isEmpty(), errors.toString());
+
+        int expectedSize = 0;
+        for (Map<Integer, Integer> model : models) {
+            expectedSize += model.size();
+            for (Map.Entry<Integer, Integer> e : model.entrySet()) {
+                assertEquals(e.getValue(), cache.get(e.getKey()));
+            }
+        }
+        assertEquals(expectedSize, cache.size());
+        assertEquals(0, cache.stats().evictions());
+        assertNull(cache.get(-1));
+    }
+
+    @Test
+    void testSegmentedCacheSharedKeys() throws InterruptedException {
+        int threads = 4;
+        int keys = 256;
+        int opsPerThread = (int) Math.min(OPS / threads, 250_000);
+        // far fewer slots than keys, so threads contend on the same entries and evict each other's
+        SegmentedCache<Integer, Integer> cache = new SegmentedCache<>(4, () -> new LruCache<>(16));
+
+        long[] inserted = new long[threads];
+        long[] removed = new long[threads];
+        long[] gets = new long[threads];
+        List<Thread> workers = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            Thread worker = new Thread(() -> {
+                Random random = new Random(SEED + id);
+                try {
+                    for (int i = 0; i < opsPerThread; i++) {
+                        int key = random.nextInt(keys);
+                        int roll = random.nextInt(3);
+                        Integer previous;
+                        if (roll == 0) {
+                            // values encode their key and writer, so a value under the wrong key is caught
+                            previous = cache.put(key, key * threads + id);
+                            if (previous == null) {
+                                inserted[id]++;
+                            }
+                        } else if (roll == 1) {
+                            previous = cache.get(key);
+                            gets[id]++;
+                        } else {
+                            previous = cache.remove(key);
+                            if (previous != null) {
+                                removed[id]++;
+                            }
+                        }
+
+                        if (previous != null) {
+                            assertEquals(key, previous / threads, "value under key " + key);
+                        }
+                    }
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertTrue(errors.isEmpty(), errors.toString());
+
+        long totalInserted = 0;
+        long totalRemoved = 0;
+        long totalGets = 0;
+        for (int t = 0; t < threads; t++) {
+            totalInserted += inserted[t];
+            totalRemoved += removed[t];
+            totalGets += gets[t];
+        }
+
+        // every entry is accounted for by exactly one insert and at most one removal or eviction
+        CacheStats stats = cache.stats();
+        assertEquals(totalInserted - totalRemoved - stats.evictions(), cache.size());
+        assertEquals(totalGets, stats.hits() + stats.misses());
+        assertTrue(cache.size() <= 4 * 16);
+        assertTrue(stats.evictions() > 0);
+    }
+}
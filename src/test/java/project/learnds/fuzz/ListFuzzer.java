@@ -0,0 +1,282 @@
+package project.learnds.fuzz;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Differential fuzzer for list-like collections. Generates random sequences of
+ * operations, replays each sequence against a fresh collection under test and a
+ * fresh reference model, and compares every result. When they disagree the failing
+ * sequence is shrunk to a minimal reproduction before being reported.
+ */
+final class ListFuzzer {
+
+    /**
+     * Kinds of operation.
+     */
+    enum Kind {
+        ADD, GET, INDEX_OF, REMOVE, SET, ITERATE
+    }
+
+    /**
+     * A single operation with its arguments.
+     */
+    static final class Op {
+
+        final Kind kind;
+
+        final int index;
+
+        final Integer value;
+
+        Op(Kind kind, int index, Integer value) {
+            this.kind = kind;
+            this.index = index;
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            switch (kind) {
+                case ADD:
+                    return "add(" + value + ")";
+                case GET:
+                    return "get(" + index + ")";
+                case INDEX_OF:
+                    return "indexOf(" + value + ")";
+                case REMOVE:
+                    return "remove(" + index + ")";
+                case SET:
+                    return "set(" + index + ", " + value + ")";
+                default:
+                    return "iterate()";
+            }
+        }
+    }
+
+    /**
+     * Name used in failure messages.
+     */
+    private final String name;
+
+    /**
+     * Creates an empty collection under test.
+     */
+    private final Supplier<ListSubject> subject;
+
+    /**
+     * Creates an empty reference model.
+     */
+    private final Supplier<ListSubject> model;
+
+    /**
+     * Whether to generate null elements.
+     */
+    private final boolean nulls;
+
+    /**
+     * Whether to generate {@code set} operations.
+     */
+    private final boolean sets;
+
+    ListFuzzer(String name, Supplier<ListSubject> subject, Supplier<ListSubject> model, boolean nulls, boolean sets) {
+        this.name = name;
+        this.subject = subject;
+        this.model = model;
+        this.nulls = nulls;
+        this.sets = sets;
+    }
+
+    /**
+     * Replays {@code totalOps} random operations, split into sequences of {@code opsPerSequence},
+     * with lists of up to 300 elements.
+     * 
+     * @param seed seed of the random generator, reported on failure
+     * @param totalOps total number of operations to replay
+     * @param opsPerSequence number of operations per sequence
+     * @throws AssertionError describing a minimal failing sequence
+     */
+    void run(long seed, long totalOps, int opsPerSequence) {
+        run(seed, totalOps, opsPerSequence, 300);
+    }
+
+    /**
+     * Replays {@code totalOps} random operations, split into sequences of {@code opsPerSequence},
+     * with lists of up to {@code maxSize} elements. Reaching a size of n takes about 3n operations.
+     * 
+     * @param seed seed of the random generator, reported on failure
+     * @param totalOps total number of operations to replay
+     * @param opsPerSequence number of operations per sequence
+     * @param maxSize largest size the generated sequences aim for
+     * @throws AssertionError describing a minimal failing sequence
+     */
+    void run(long seed, long totalOps, int opsPerSequence, int maxSize) {
+        Random random = new Random(seed);
+        for (long done = 0; done < totalOps; done += opsPerSequence) {
+            List<Op> ops = generate(random, opsPerSequence, maxSize);
+            if (replay(ops) != null) {
+                List<Op> minimal = shrink(ops);
+                throw new AssertionError(name + " (seed " + seed + "): " + replay(minimal)
+                        + "\nminimal sequence (" + minimal.size() + " ops): " + minimal);
+            }
+        }
+    }
+
+    /**
+     * Generates {@code count} operations. Sizes drift towards a random target so
+     * both short and long lists are covered, and a few indexes are out of range.
+     * Each time the size reaches the target a new one is picked, so lists also
+     * shrink and grow again.
+     */
+    private List<Op> generate(Random random, int count, int maxSize) {
+        List<Op> ops = new ArrayList<>(count);
+        int target = nextTarget(random, maxSize);
+        int size = 0;
+        // more distinct values in bigger lists, so indexOf still misses sometimes
+        int values = Math.max(64, maxSize / 4);
+
+        for (int i = 0; i < count; i++) {
+            if (size == target) {
+                target = nextTarget(random, maxSize);
+            }
+
+            int index;
+            if (size > 0 && random.nextInt(20) != 0) {
+                index = random.nextInt(size);
+            } else {
+                index = random.nextInt(size + 4) - 2;
+            }
+
+            Integer value = nulls && random.nextInt(20) == 0 ? null : random.nextInt(values);
+            int roll = random.nextInt(100);
+
+            if (roll < (size < target ? 45 : 20)) {
+                ops.add(new Op(Kind.ADD, 0, value));
+                size++;
+            } else if (roll < 60) {
+                ops.add(new Op(Kind.REMOVE, index, null));
+                if (index >= 0 && index < size) {
+                    size--;
+                }
+            } else if (roll < 75) {
+                ops.add(new Op(Kind.GET, index, null));
+            } else if (roll < 88) {
+                ops.add(new Op(Kind.INDEX_OF, 0, value));
+            } else if (roll < 97 && sets) {
+                ops.add(new Op(Kind.SET, index, value));
+            } else {
+                ops.add(new Op(Kind.ITERATE, 0, null));
+            }
+        }
+
+        return ops;
+    }
+
+    /**
+     * Returns a size for generated lists to drift towards. Half of the targets are small.
+     */
+    private static int nextTarget(Random random, int maxSize) {
+        return 1 + random.nextInt(random.nextBoolean() ? 16 : maxSize);
+    }
+
+    /**
+     * Replays {@code ops} against fresh instances.
+     * 
+     * @return description of the first disagreement or null if there was none
+     */
+    String replay(List<Op> ops) {
+        ListSubject s = subject.get();
+        ListSubject m = model.get();
+
+        for (int i = 0; i < ops.size(); i++) {
+            Op op = ops.get(i);
+            Object actual = apply(s, op);
+            Object expected = apply(m, op);
+            if (!Objects.equals(expected, actual)) {
+                return "op #" + i + " " + op + ": expected " + expected + " but was " + actual;
+            }
+        }
+
+        Object actual = apply(s, new Op(Kind.ITERATE, 0, null));
+        Object expected = apply(m, new Op(Kind.ITERATE, 0, null));
+        if (!Objects.equals(expected, actual)) {
+            return "final contents: expected " + expected + " but was " + actual;
+        }
+
+        return null;
+    }
+
+    /**
+     * Applies {@code op} to {@code target}. Returns the result, or the kind of
+     * exception thrown so that subjects and models can be compared.
+     */
+    private static Object apply(ListSubject target, Op op) {
+        try {
+            switch (op.kind) {
+                case ADD:
+                    target.add(op.value);
+                    return "size=" + target.size();
+                case GET:
+                    return target.get(op.index);
+                case INDEX_OF:
+                    return target.indexOf(op.value);
+                case REMOVE:
+                    return target.remove(op.index);
+                case SET:
+                    return target.set(op.index, op.value);
+                default:
+                    List<Integer> contents = new ArrayList<>();
+                    for (Integer e : target.iterable()) {
+                        contents.add(e);
+                    }
+                    return contents + " size=" + target.size();
+            }
+        } catch (IndexOutOfBoundsException e) {
+            return "threw IndexOutOfBoundsException";
+        } catch (RuntimeException e) {
+            return "threw " + e.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * Shrinks a failing sequence by removing ever smaller chunks of operations,
+     * then simplifying the arguments of the operations that are left.
+     */
+    List<Op> shrink(List<Op> ops) {
+        List<Op> current = new ArrayList<>(ops);
+
+        for (int chunk = current.size() / 2; chunk >= 1; chunk /= 2) {
+            int i = 0;
+            while (i < current.size()) {
+                List<Op> candidate = new ArrayList<>(current.subList(0, i));
+                candidate.addAll(current.subList(Math.min(i + chunk, current.size()), current.size()));
+                if (replay(candidate) != null) {
+                    current = candidate;
+                } else {
+                    i += chunk;
+                }
+            }
+        }
+
+        for (int i = 0; i < current.size(); i++) {
+            Op op = current.get(i);
+            Op[] simpler = {
+                new Op(op.kind, 0, op.value),
+                new Op(op.kind, op.index, op.value == null ? null : 0)
+            };
+            for (Op candidateOp : simpler) {
+                List<Op> candidate = new ArrayList<>(current);
+                candidate.set(i, candidateOp);
+                if (replay(candidate) != null) {
+                    current = candidate;
+                    op = candidateOp;
+                }
+            }
+        }
+
+        return current;
+    }
+}
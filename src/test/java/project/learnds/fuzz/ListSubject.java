@@ -0,0 +1,122 @@
+package project.learnds.fuzz;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import project.learnds.array.DynamicArray;
+import project.learnds.linkedlist.DoublyLinkedList;
+import project.learnds.linkedlist.SinglyLinkedList;
+import project.learnds.tree.SortedList;
+
+/**
+ * Common view of a list-like collection, so the fuzzer can drive a collection
+ * under test and its {@code java.util} reference model with the same operations.
+ */
+interface ListSubject {
+
+    void add(Integer e);
+
+    Integer get(int index);
+
+    int indexOf(Integer e);
+
+    Integer remove(int index);
+
+    Integer set(int index, Integer e);
+
+    int size();
+
+    Iterable<Integer> iterable();
+
+    /**
+     * Reference model backed by {@link ArrayList}.
+     */
+    static ListSubject arrayList() {
+        List<Integer> list = new ArrayList<>();
+        return new ListSubject() {
+            public void add(Integer e) { list.add(e); }
+            public Integer get(int index) { return list.get(index); }
+            public int indexOf(Integer e) { return list.indexOf(e); }
+            public Integer remove(int index) { return list.remove(index); }
+            public Integer set(int index, Integer e) { return list.set(index, e); }
+            public int size() { return list.size(); }
+            public Iterable<Integer> iterable() { return list; }
+        };
+    }
+
+    /**
+     * Reference model for sorted lists: an {@link ArrayList} kept sorted,
+     * with new elements inserted after any equal ones.
+     */
+    static ListSubject sortedArrayList() {
+        List<Integer> list = new ArrayList<>();
+        return new ListSubject() {
+            public void add(Integer e) {
+                if (e == null) {
+                    throw new NullPointerException();
+                }
+                int pos = Collections.binarySearch(list, e);
+                pos = pos < 0 ? -pos - 1 : pos;
+                while (pos < list.size() && list.get(pos).equals(e)) {
+                    pos++;
+                }
+                list.add(pos, e);
+            }
+            public Integer get(int index) { return list.get(index); }
+            public int indexOf(Integer e) { return list.indexOf(e); }
+            public Integer remove(int index) { return list.remove(index); }
+            public Integer set(int index, Integer e) { throw new UnsupportedOperationException(); }
+            public int size() { return list.size(); }
+            public Iterable<Integer> iterable() { return list; }
+        };
+    }
+
+    static ListSubject of(DynamicArray<Integer> list) {
+        return new ListSubject() {
+            public void add(Integer e) { list.add(e); }
+            public Integer get(int index) { return list.get(index); }
+            public int indexOf(Integer e) { return list.indexOf(e); }
+            public Integer remove(int index) { return list.remove(index); }
+            public Integer set(int index, Integer e) { return list.set(index, e); }
+            public int size() { return list.size(); }
+            public Iterable<Integer> iterable() { return list; }
+        };
+    }
+
+    static ListSubject of(SinglyLinkedList<Integer> list) {
+        return new ListSubject() {
+            public void add(Integer e) { list.add(e); }
+            public Integer get(int index) { return list.get(index); }
+            public int indexOf(Integer e) { return list.indexOf(e); }
+            public Integer remove(int index) { return list.remove(index); }
+            public Integer set(int index, Integer e) { return list.set(index, e); }
+            public int size() { return list.size(); }
+            public Iterable<Integer> iterable() { return list; }
+        };
+    }
+
+    static ListSubject of(DoublyLinkedList<Integer> list) {
+        return new ListSubject() {
+            public void add(Integer e) { list.add(e); }
+            public Integer get(int index) { return list.get(index); }
+            public int indexOf(Integer e) { return list.indexOf(e); }
+            public Integer remove(int index) { return list.remove(index); }
+            public Integer set(int index, Integer e) { return list.set(index, e); }
+            public int size() { return list.size(); }
+            public Iterable<Integer> iterable() { return list; }
+        };
+    }
+
+    static ListSubject of(SortedList<Integer> list) {
+        return new ListSubject() {
+            public void add(Integer e) { list.add(e); }
+            public Integer get(int index) { return list.get(index); }
+            public int indexOf(Integer e) { return list.indexOf(e); }
+            public Integer remove(int index) { return list.remove(index); }
+            public Integer set(int index, Integer e) { throw new UnsupportedOperationException(); }
+            public int size() { return list.size(); }
+            public Iterable<Integer> iterable() { return list; }
+        };
+    }
+}
@@ -1,9 +1,18 @@
 package project.learnds.linkedlist;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -147,4 +156,198 @@ public class SinglyLinkedListTest {
             list.remove(3);
         });
     }
+
+    @Test
+    void testSet() {
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        assertEquals(1, list.set(0, 4));
+        assertEquals(3, list.set(2, null));
+        assertEquals(4, list.get(0));
+        assertNull(list.get(2));
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            list.set(3, 5);
+        });
+    }
+
+    @Test
+    void testForEach() {
+        list.add(1);
+        list.add(null);
+        list.add(3);
+
+        List<Integer> out = new ArrayList<>();
+        list.forEach(out::add);
+        assertEquals(Arrays.asList(1, null, 3), out);
+
+        out.clear();
+        list.forEach(1, 3, out::add);
+        assertEquals(Arrays.asList(null, 3), out);
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            list.forEach(2, 4, x -> { });
+        });
+    }
+
+    @Test
+    void testCursorReset() {
+        list.add(1);
+        list.add(2);
+
+        SinglyLinkedList<Integer>.Cursor cursor = list.cursor();
+        assertEquals(1, cursor.next());
+        assertEquals(2, cursor.next());
+        assertEquals(false, cursor.hasNext());
+
+        list.add(3);
+        cursor.reset();
+        int sum = 0;
+        while (cursor.hasNext()) {
+            sum += cursor.next();
+        }
+        assertEquals(6, sum);
+    }
+
+    @Test
+    void testCopyConstructor() {
+        SinglyLinkedList<Integer> copy = new SinglyLinkedList<>(Arrays.asList(1, null, 3));
+        assertEquals(3, copy.size());
+        assertNull(copy.get(1));
+        assertEquals(3, copy.get(2));
+
+        SinglyLinkedList<Integer> copyOfCopy = new SinglyLinkedList<>(copy);
+        copyOfCopy.set(0, 9);
+        assertEquals(1, copy.get(0));
+    }
+
+    @Test
+    void testFactories() {
+        assertEquals(SinglyLinkedList.of(1, 2).toString(), SinglyLinkedList.from(new Integer[] { 1, 2 }).toString());
+        assertEquals(0, SinglyLinkedList.of().size());
+    }
+
+    @Test
+    void testAddAll() {
+        list.add(1);
+
+        assertEquals(true, list.addAll(Arrays.asList(2, 3)));
+        assertEquals(false, list.addAll(new ArrayList<>()));
+        assertEquals(3, list.size());
+        assertEquals(3, list.get(2));
+    }
+
+    @Test
+    void testToArray() {
+        list.add(1);
+        list.add(2);
+
+        assertArrayEquals(new Object[] { 1, 2 }, list.toArray());
+        assertArrayEquals(new Integer[] { 1, 2 }, list.toArray(new Integer[0]));
+
+        Integer[] small = { 7 };
+        Integer[] out = list.toArray(small);
+        assertEquals(Integer[].class, out.getClass());
+        assertArrayEquals(new Integer[] { 1, 2 }, out);
+        assertArrayEquals(new Integer[] { 7 }, small);
+
+        Integer[] large = { 7, 7, 7, 7 };
+        assertSame(large, list.toArray(large));
+        assertArrayEquals(new Integer[] { 1, 2, null, 7 }, large);
+    }
+
+    @Test
+    void testAsList() {
+        list.add(1);
+        list.add(2);
+
+        List<Integer> view = list.asList();
+        assertEquals(Arrays.asList(1, 2), view);
+
+        view.add(3);
+        view.set(0, 9);
+        view.remove(1);
+        assertEquals(2, list.size());
+        assertEquals(9, list.get(0));
+        assertEquals(3, list.get(1));
+        assertEquals(Arrays.asList(9, 3), new ArrayList<>(view));
+    }
+
+    @Test
+    void testAsListSearchAndEquality() {
+        list.add(1);
+        list.add(null);
+        list.add(3);
+        list.add(1);
+
+        List<Integer> view = list.asList();
+        List<Integer> expected = Arrays.asList(1, null, 3, 1);
+        assertEquals(0, view.indexOf(1));
+        assertEquals(3, view.lastIndexOf(1));
+        assertEquals(1, view.indexOf(null));
+        assertEquals(1, view.lastIndexOf(null));
+        assertEquals(-1, view.indexOf(5));
+        assertEquals(-1, view.lastIndexOf(5));
+        assertTrue(view.contains(3));
+        assertEquals(expected, view);
+        assertEquals(view, expected);
+        assertEquals(expected.hashCode(), view.hashCode());
+        assertEquals(Arrays.asList(null, 3), view.subList(1, 3));
+
+        view.subList(1, 3).clear();
+        assertEquals(2, list.size());
+        assertEquals(Arrays.asList(1, 1), view);
+    }
+
+    @Test
+    void testAsListIterator() {
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        List<Integer> view = list.asList();
+        ListIterator<Integer> it = view.listIterator(1);
+        assertEquals(1, it.nextIndex());
+        assertEquals(2, it.next());
+        it.set(20);
+        it.add(25);
+        assertEquals(3, it.nextIndex());
+        assertThrows(IllegalStateException.class, () -> {
+            it.remove();
+        });
+        assertEquals(25, it.previous());
+        assertEquals(20, it.previous());
+        it.remove();
+        assertEquals(1, it.nextIndex());
+        assertEquals(1, it.previous());
+        assertFalse(it.hasPrevious());
+        assertThrows(NoSuchElementException.class, () -> {
+            it.previous();
+        });
+        it.add(0);
+        assertEquals(1, it.next());
+        assertEquals(25, it.next());
+        assertEquals(3, it.next());
+        it.remove();
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, () -> {
+            it.next();
+        });
+        it.add(4);
+
+        assertEquals(Arrays.asList(0, 1, 25, 4), view);
+        assertEquals(4, list.size());
+        assertEquals(4, list.get(3));
+        list.add(5);
+        assertEquals(5, list.get(4));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            view.listIterator(6);
+        });
+        view.add(1, 7);
+        view.remove(0);
+        assertEquals(Arrays.asList(7, 1, 25, 4, 5), view);
+    }
 }
@@ -0,0 +1,48 @@
+package project.learnds.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class MemoryLayoutTest {
+
+    static class TwoInts {
+        int a;
+        int b;
+    }
+
+    static class OneLongOneRef extends TwoInts {
+        long c;
+        Object d;
+    }
+
+    @Test
+    void testReferenceSize() {
+        assertTrue(MemoryLayout.REFERENCE_SIZE == 4 || MemoryLayout.REFERENCE_SIZE == 8);
+    }
+
+    @Test
+    void testAlign() {
+        assertEquals(0, MemoryLayout.align(0));
+        assertEquals(8, MemoryLayout.align(1));
+        assertEquals(16, MemoryLayout.align(16));
+        assertEquals(24, MemoryLayout.align(17));
+    }
+
+    @Test
+    void testShallowSizeOf() {
+        assertEquals(MemoryLayout.align(MemoryLayout.OBJECT_HEADER + 8), MemoryLayout.shallowSizeOf(TwoInts.class));
+        assertEquals(MemoryLayout.align(MemoryLayout.OBJECT_HEADER + 16 + MemoryLayout.REFERENCE_SIZE),
+                MemoryLayout.shallowSizeOf(OneLongOneRef.class));
+    }
+
+    @Test
+    void testArraySizes() {
+        assertEquals(MemoryLayout.align(MemoryLayout.ARRAY_HEADER), MemoryLayout.referenceArraySize(0));
+        assertEquals(MemoryLayout.align(MemoryLayout.ARRAY_HEADER + 10L * MemoryLayout.REFERENCE_SIZE),
+                MemoryLayout.referenceArraySize(10));
+        assertEquals(MemoryLayout.align(MemoryLayout.ARRAY_HEADER + 40), MemoryLayout.intArraySize(10));
+        assertTrue(MemoryLayout.longArraySize(10) >= MemoryLayout.ARRAY_HEADER + 80);
+    }
+}
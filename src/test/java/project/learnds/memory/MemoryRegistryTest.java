@@ -0,0 +1,94 @@
+package project.learnds.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import project.learnds.array.DynamicArray;
+import project.learnds.array.PackedIntArray;
+import project.learnds.linkedlist.DoublyLinkedList;
+import project.learnds.linkedlist.SinglyLinkedList;
+import project.learnds.tree.SortedList;
+
+public class MemoryRegistryTest {
+
+    @Test
+    void testTotals() {
+        DynamicArray<Integer> array = new DynamicArray<>();
+        SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+        array.add(1);
+        list.add(1);
+
+        MemoryRegistry registry = new MemoryRegistry();
+        registry.register("array", array);
+        registry.register("list", list);
+
+        assertEquals(2, registry.size());
+        assertEquals(array.memoryFootprint() + list.memoryFootprint(), registry.totalFootprint());
+        assertEquals(array.capacitySlack(), registry.totalSlack());
+
+        registry.unregister("array");
+        assertEquals(list.memoryFootprint(), registry.totalFootprint());
+    }
+
+    @Test
+    void testLinkedListFootprintGrowsPerNode() {
+        SinglyLinkedList<Integer> singly = new SinglyLinkedList<>();
+        DoublyLinkedList<Integer> doubly = new DoublyLinkedList<>();
+        long singlyEmpty = singly.memoryFootprint();
+        long doublyEmpty = doubly.memoryFootprint();
+
+        for (int i = 0; i < 10; i++) {
+            singly.add(i);
+            doubly.add(i);
+        }
+
+        long singlyNode = (singly.memoryFootprint() - singlyEmpty) / 10;
+        long doublyNode = (doubly.memoryFootprint() - doublyEmpty) / 10;
+        assertTrue(doublyNode >= singlyNode);
+        assertEquals(0, singly.capacitySlack());
+    }
+
+    @Test
+    void testDynamicArraySlackAndTrim() {
+        DynamicArray<Integer> array = new DynamicArray<>();
+        for (int i = 0; i < 17; i++) {
+            array.add(i);
+        }
+
+        assertEquals(32, array.capacity());
+        assertEquals(15L * MemoryLayout.REFERENCE_SIZE, array.capacitySlack());
+
+        long before = array.memoryFootprint();
+        array.trimToSize();
+        assertEquals(17, array.capacity());
+        assertEquals(0, array.capacitySlack());
+        assertTrue(array.memoryFootprint() < before);
+    }
+
+    @Test
+    void testPackedIntArraySmallerThanDynamicArray() {
+        DynamicArray<Integer> boxed = new DynamicArray<>();
+        PackedIntArray packed = new PackedIntArray();
+        for (int i = 0; i < 10_000; i++) {
+            boxed.add(i % 8);
+            packed.add(i % 8);
+        }
+
+        packed.trimToSize();
+        assertEquals(0, packed.capacitySlack());
+        assertTrue(packed.memoryFootprint() * 8 < boxed.memoryFootprint());
+    }
+
+    @Test
+    void testSortedListSlack() {
+        SortedList<Integer> list = new SortedList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        assertTrue(list.capacitySlack() > 0);
+        assertTrue(list.capacitySlack() < list.memoryFootprint());
+    }
+}
@@ -0,0 +1,98 @@
+package project.learnds.merge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import project.learnds.array.DynamicArray;
+import project.learnds.linkedlist.DoublyLinkedList;
+import project.learnds.linkedlist.SinglyLinkedList;
+
+public class KWayMergeTest {
+
+    @Test
+    void testMixedInputs() {
+        DynamicArray<Integer> a = new DynamicArray<>();
+        SinglyLinkedList<Integer> b = new SinglyLinkedList<>();
+        DoublyLinkedList<Integer> c = new DoublyLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            a.add(i * 3);
+            b.add(i * 3 + 1);
+            c.add(i * 3 + 2);
+        }
+
+        DynamicArray<Integer> merged = KWayMerge.mergeToArray(List.of(a, b, c), Comparator.naturalOrder(), false);
+        assertEquals(30, merged.size());
+        assertEquals(30, merged.capacity());
+        for (int i = 0; i < 30; i++) {
+            assertEquals(i, merged.get(i));
+        }
+    }
+
+    @Test
+    void testDedupe() {
+        List<List<Integer>> inputs = List.of(List.of(1, 2, 2, 5), List.of(2, 3, 5), List.of(5, 5));
+
+        DoublyLinkedList<Integer> out = new DoublyLinkedList<>();
+        int count = KWayMerge.mergeInto(inputs, Comparator.naturalOrder(), true, out::add);
+
+        assertEquals(4, count);
+        assertEquals("[1 <-> 2 <-> 3 <-> 5]", out.toString());
+    }
+
+    @Test
+    void testCustomComparator() {
+        List<List<String>> inputs = List.of(List.of("ccc", "a"), List.of("bb"));
+
+        DynamicArray<String> merged = KWayMerge.mergeToArray(inputs,
+                Comparator.comparingInt(String::length).reversed(), false);
+        assertEquals("[ccc, bb, a]", merged.toString());
+    }
+
+    @Test
+    void testParallelMatchesSequential() {
+        Random random = new Random(11);
+        List<DynamicArray<Integer>> inputs = new ArrayList<>();
+        List<Integer> all = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            List<Integer> run = new ArrayList<>();
+            int n = random.nextInt(2000);
+            for (int j = 0; j < n; j++) {
+                run.add(random.nextInt(50_000));
+            }
+            Collections.sort(run);
+            all.addAll(run);
+
+            DynamicArray<Integer> array = new DynamicArray<>();
+            run.forEach(array::add);
+            inputs.add(array);
+        }
+        Collections.sort(all);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DynamicArray<Integer> merged = KWayMerge.parallelMergeToArray(inputs, Comparator.naturalOrder(), false, pool);
+            assertEquals(all.size(), merged.size());
+            for (int i = 0; i < all.size(); i++) {
+                assertEquals(all.get(i), merged.get(i));
+            }
+
+            List<Integer> distinct = new ArrayList<>(new TreeSet<>(all));
+            DynamicArray<Integer> deduped = KWayMerge.parallelMergeToArray(inputs, Comparator.naturalOrder(), true, pool);
+            assertEquals(distinct.size(), deduped.size());
+            for (int i = 0; i < distinct.size(); i++) {
+                assertEquals(distinct.get(i), deduped.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package project.learnds.merge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class LoserTreeTest {
+
+    private static List<Integer> drain(Iterator<Integer> it) {
+        List<Integer> out = new ArrayList<>();
+        while (it.hasNext()) {
+            out.add(it.next());
+        }
+
+        return out;
+    }
+
+    @Test
+    void testNoInputs() {
+        LoserTree<Integer> tree = new LoserTree<>(List.of(), Comparator.naturalOrder());
+
+        assertFalse(tree.hasNext());
+        assertThrows(NoSuchElementException.class, () -> {
+            tree.next();
+        });
+    }
+
+    @Test
+    void testSingleInput() {
+        LoserTree<Integer> tree = new LoserTree<>(List.of(List.of(1, 2, 3).iterator()), Comparator.naturalOrder());
+
+        assertEquals(List.of(1, 2, 3), drain(tree));
+    }
+
+    @Test
+    void testEmptyInputs() {
+        LoserTree<Integer> tree = new LoserTree<>(List.of(
+                List.<Integer>of().iterator(),
+                List.of(2).iterator(),
+                List.<Integer>of().iterator()), Comparator.naturalOrder());
+
+        assertEquals(List.of(2), drain(tree));
+    }
+
+    @Test
+    void testStableOnTies() {
+        int[][] pairs = {{1, 0}, {1, 1}, {1, 2}};
+        List<Iterator<int[]>> inputs = new ArrayList<>();
+        for (int[] pair : pairs) {
+            inputs.add(List.of(pair).iterator());
+        }
+
+        LoserTree<int[]> tree = new LoserTree<>(inputs, Comparator.comparingInt(p -> p[0]));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, tree.next()[1]);
+        }
+    }
+
+    @Test
+    void testRandomInputs() {
+        Random random = new Random(3);
+        for (int k = 1; k <= 17; k++) {
+            List<Integer> expected = new ArrayList<>();
+            List<Iterator<Integer>> inputs = new ArrayList<>();
+            for (int i = 0; i < k; i++) {
+                List<Integer> run = new ArrayList<>();
+                int n = random.nextInt(50);
+                for (int j = 0; j < n; j++) {
+                    run.add(random.nextInt(100));
+                }
+                Collections.sort(run);
+                expected.addAll(run);
+                inputs.add(run.iterator());
+            }
+            Collections.sort(expected);
+
+            assertEquals(expected, drain(new LoserTree<>(inputs, Comparator.naturalOrder())));
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package project.learnds.persist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import project.learnds.linkedlist.SinglyLinkedList;
+
+public class WriteBehindListTest {
+
+    private Path path;
+
+    @BeforeEach
+    void init() throws IOException {
+        path = Files.createTempFile("write-behind", ".log");
+        path.toFile().deleteOnExit();
+    }
+
+    @Test
+    void testAddFlushReplay() throws IOException {
+        try (WriteBehindList<String> list = new WriteBehindList<>(path, RecordCodec.utf8())) {
+            list.add("a");
+            list.add("");
+            list.add("\u00fc");
+
+            assertEquals(3, list.size());
+            assertEquals("\u00fc", list.get(2));
+            assertEquals(0, WriteBehindList.replay(path, RecordCodec.utf8()).size());
+
+            list.flush();
+            assertEquals("[a ->  -> \u00fc]", WriteBehindList.replay(path, RecordCodec.utf8()).toString());
+        }
+    }
+
+    @Test
+    void testReopenReplaysAndAppends() throws IOException {
+        try (WriteBehindList<String> list = new WriteBehindList<>(path, RecordCodec.utf8())) {
+            list.add("a");
+            list.add("b");
+        }
+
+        try (WriteBehindList<String> list = new WriteBehindList<>(path, RecordCodec.utf8())) {
+            assertEquals("[a -> b]", list.toString());
+            list.add("c");
+        }
+
+        assertEquals("[a -> b -> c]", WriteBehindList.replay(path, RecordCodec.utf8()).toString());
+    }
+
+    @Test
+    void testBackpressure() throws IOException {
+        List<String> expected = new ArrayList<>();
+        try (WriteBehindList<String> list = new WriteBehindList<>(path, RecordCodec.utf8(), 3, 1,
+                FsyncPolicy.EVERY_WRITE, WriteBehindList.virtualThreadFactory())) {
+            for (int i = 0; i < 1000; i++) {
+                String s = Integer.toString(i);
+                expected.add(s);
+                list.add(s);
+            }
+        }
+
+        SinglyLinkedList<String> replayed = WriteBehindList.replay(path, RecordCodec.utf8());
+        assertEquals(expected, new ArrayList<>(replayed.asList()));
+    }
+
+    @Test
+    void testConcurrentProducers() throws Exception {
+        int threads = 4;
+        int perThread = 2_000;
+
+        try (WriteBehindList<String> list = new WriteBehindList<>(path, RecordCodec.utf8(), 16, 2,
+                FsyncPolicy.NEVER, WriteBehindList.virtualThreadFactory())) {
+            Thread[] producers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                producers[t] = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        list.add(id + ":" + i);
+                    }
+                });
+                producers[t].start();
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            list.flush();
+            assertEquals(threads * perThread, list.size());
+
+            // the file holds the elements in the same order as the list
+            List<String> inMemory = new ArrayList<>();
+            list.forEach(inMemory::add);
+            assertEquals(inMemory, new ArrayList<>(WriteBehindList.replay(path, RecordCodec.utf8()).asList()));
+        }
+    }
+
+    @Test
+    void testTornRecordIsDropped() throws IOException {
+        try (WriteBehindList<String> list = new WriteBehindList<>(path, RecordCodec.utf8())) {
+            list.add("a");
+            list.add("b");
+        }
+
+        // a length header promising more bytes than were written, as if a crash cut the write short
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0, 0, 0, 9, 'x' }));
+        }
+        long intact = Files.size(path) - 5;
+
+        assertEquals("[a -> b]", WriteBehindList.replay(path, RecordCodec.utf8()).toString());
+
+        try (WriteBehindList<String> list = new WriteBehindList<>(path, RecordCodec.utf8())) {
+            assertEquals(2, list.size());
+            assertEquals(intact, Files.size(path));
+            list.add("c");
+        }
+
+        assertEquals("[a -> b -> c]", WriteBehindList.replay(path, RecordCodec.utf8()).toString());
+    }
+
+    @Test
+    void testClosed() throws IOException {
+        WriteBehindList<String> list = new WriteBehindList<>(path, RecordCodec.utf8());
+        list.close();
+        list.close();
+
+        assertThrows(IllegalStateException.class, () -> {
+            list.add("a");
+        });
+        assertThrows(IllegalStateException.class, () -> {
+            list.flush();
+        });
+    }
+
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new WriteBehindList<>(path, RecordCodec.utf8(), 0, 1, FsyncPolicy.NEVER, Thread::new);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new WriteBehindList<>(path, RecordCodec.utf8(), 1, 0, FsyncPolicy.NEVER, Thread::new);
+        });
+        assertThrows(NullPointerException.class, () -> {
+            new WriteBehindList<>(path, RecordCodec.utf8(), 1, 1, null, Thread::new);
+        });
+    }
+
+    @Test
+    void testReplayMissingFile() throws IOException {
+        Files.delete(path);
+
+        assertEquals(0, WriteBehindList.replay(path, RecordCodec.utf8()).size());
+    }
+
+    @Test
+    void testIdleWriterParks() throws Exception {
+        AtomicReference<Thread> writer = new AtomicReference<>();
+        try (WriteBehindList<String> list = new WriteBehindList<>(path, RecordCodec.utf8(), 4, 2,
+                FsyncPolicy.NEVER, r -> {
+                    Thread t = new Thread(r);
+                    t.setDaemon(true);
+                    writer.set(t);
+                    return t;
+                })) {
+            list.add("a");
+            list.flush();
+
+            // an idle writer blocks indefinitely instead of waking up on a timer
+            for (int i = 0; i < 200 && writer.get().getState() != Thread.State.WAITING; i++) {
+                Thread.sleep(5);
+            }
+            assertEquals(Thread.State.WAITING, writer.get().getState());
+        }
+
+        writer.get().join(1_000);
+        assertEquals(false, writer.get().isAlive());
+    }
+
+    @Test
+    void testWriterFailureIsReported() throws IOException {
+        // a null record makes the writer fail with a NullPointerException rather than an IOException
+        RecordCodec<String> broken = new RecordCodec<>() {
+
+            @Override
+            public byte[] encode(String e) {
+                return e.equals("bad") ? null : RecordCodec.utf8().encode(e);
+            }
+
+            @Override
+            public String decode(byte[] bytes) {
+                return RecordCodec.utf8().decode(bytes);
+            }
+        };
+
+        WriteBehindList<String> list = new WriteBehindList<>(path, broken);
+        list.add("bad");
+
+        IOException ex = assertThrows(IOException.class, () -> {
+            list.flush();
+        });
+        assertTrue(ex.getCause().getCause() instanceof NullPointerException);
+        ex = assertThrows(IOException.class, () -> {
+            list.flush();
+        });
+        assertTrue(ex.getCause().getCause() instanceof NullPointerException);
+        assertThrows(UncheckedIOException.class, () -> {
+            list.add("a");
+        });
+        assertThrows(IOException.class, () -> {
+            list.close();
+        });
+    }
+
+    @Test
+    void testBackpressureDoesNotStallReaders() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        WriteBehindList<String> list = new WriteBehindList<>(path, RecordCodec.utf8(), 1, 1,
+                FsyncPolicy.NEVER, r -> {
+                    Thread t = new Thread(() -> {
+                        try {
+                            release.await();
+                        } catch (InterruptedException ex) {
+                            return;
+                        }
+                        r.run();
+                    });
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        // the writer hasn't started, so the second batch has to wait for space
+        CountDownLatch added = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            list.add("a");
+            list.add("b");
+            added.countDown();
+        });
+        producer.start();
+
+        for (int i = 0; i < 200 && list.size() < 2; i++) {
+            Thread.sleep(5);
+        }
+        assertEquals(2, list.size());
+        assertEquals("[a -> b]", list.toString());
+        assertEquals(false, added.await(50, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        producer.join();
+        list.close();
+
+        assertEquals("[a -> b]", WriteBehindList.replay(path, RecordCodec.utf8()).toString());
+    }
+}
@@ -0,0 +1,193 @@
+package project.learnds.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import project.learnds.array.DynamicArray;
+
+public class SortedListTest {
+
+    private SortedList<Integer> list;
+
+    @BeforeEach
+    void init() {
+        list = new SortedList<>();
+    }
+
+    @Test
+    void testAddKeepsOrder() {
+        list.add(3);
+        list.add(1);
+        list.add(2);
+        list.add(1);
+
+        assertEquals("[1, 1, 2, 3]", list.toString());
+        assertEquals(4, list.size());
+    }
+
+    @Test
+    void testAddNull() {
+        assertThrows(NullPointerException.class, () -> {
+            list.add(null);
+        });
+    }
+
+    @Test
+    void testIndexOfAndRank() {
+        list.add(5);
+        list.add(5);
+        list.add(1);
+        list.add(9);
+
+        assertEquals(1, list.indexOf(5));
+        assertEquals(-1, list.indexOf(4));
+        assertEquals(1, list.rank(4));
+        assertEquals(4, list.rank(10));
+        assertTrue(list.contains(9));
+        assertFalse(list.contains(2));
+    }
+
+    @Test
+    void testGetInvalidIndex() {
+        list.add(1);
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            list.get(-1);
+        });
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            list.get(1);
+        });
+    }
+
+    @Test
+    void testRemove() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        assertEquals(4, list.remove(4));
+        assertTrue(list.removeElement(7));
+        assertFalse(list.removeElement(7));
+        assertEquals("[0, 1, 2, 3, 5, 6, 8, 9]", list.toString());
+    }
+
+    @Test
+    void testRange() {
+        for (int i = 0; i < 1000; i++) {
+            list.add(i * 2);
+        }
+
+        List<Integer> out = new ArrayList<>();
+        for (int x : list.range(101, 110)) {
+            out.add(x);
+        }
+
+        assertEquals(List.of(102, 104, 106, 108), out);
+        assertFalse(list.range(50, 10).iterator().hasNext());
+    }
+
+    @Test
+    void testComparator() {
+        SortedList<String> strings = new SortedList<>(Comparator.reverseOrder());
+        strings.add("a");
+        strings.add("c");
+        strings.add("b");
+
+        assertEquals("[c, b, a]", strings.toString());
+    }
+
+    @Test
+    void testFromSorted() {
+        DynamicArray<Integer> sorted = new DynamicArray<>();
+        for (int i = 0; i < 10_000; i++) {
+            sorted.add(i / 3);
+        }
+
+        SortedList<Integer> loaded = SortedList.fromSorted(sorted);
+        assertEquals(10_000, loaded.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i / 3, loaded.get(i));
+        }
+
+        loaded.add(-1);
+        assertEquals(-1, loaded.get(0));
+        assertEquals(4, loaded.indexOf(1));
+    }
+
+    @Test
+    void testFromUnsorted() {
+        DynamicArray<Integer> unsorted = new DynamicArray<>();
+        unsorted.add(2);
+        unsorted.add(1);
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            SortedList.fromSorted(unsorted);
+        });
+    }
+
+    @Test
+    void testRandomAgainstSortedArrayList() {
+        Random random = new Random(12345);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 200_000; step++) {
+            int op = random.nextInt(10);
+            if (op < 6 || expected.isEmpty()) {
+                int x = random.nextInt(5000);
+                int pos = Collections.binarySearch(expected, x);
+                while (pos >= 0 && pos < expected.size() && expected.get(pos) == x) {
+                    pos++;
+                }
+                expected.add(pos < 0 ? -pos - 1 : pos, x);
+                list.add(x);
+            } else if (op < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int x = random.nextInt(5000);
+                assertEquals(expected.indexOf(x), list.indexOf(x));
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        Iterator<Integer> it = list.iterator();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+            assertEquals(expected.get(i), it.next());
+        }
+        assertFalse(it.hasNext());
+
+        while (!expected.isEmpty()) {
+            int index = random.nextInt(expected.size());
+            assertEquals(expected.remove(index), list.remove(index));
+        }
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void testForEach() {
+        for (int i = 999; i >= 0; i--) {
+            list.add(i);
+        }
+
+        List<Integer> out = new ArrayList<>();
+        list.forEach(out::add);
+        assertEquals(1000, out.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, out.get(i));
+        }
+    }
+}